@@ -0,0 +1,54 @@
+package com.taskflow.backend.config;
+
+import com.taskflow.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Runs MVC async work (the streamed task lists of /tasks/board/{id} and
+ * /tasks/column/{id}) on its own bounded pool rather than Spring Boot's shared
+ * applicationTaskExecutor. Each running stream holds a thread and a Mongo
+ * connection until its array is written; once every thread is busy and the
+ * queue is full, new streams fail fast with 503.
+ */
+@Configuration
+public class AsyncSupportConfig implements WebMvcConfigurer {
+
+    // Not a bean: an Executor bean would replace Spring Boot's applicationTaskExecutor
+    private final ThreadPoolTaskExecutor executor;
+
+    public AsyncSupportConfig(MeterRegistry meterRegistry,
+                              @Value("${taskflow.web.async.threads:50}") int threads,
+                              @Value("${taskflow.web.async.queue-capacity:100}") int queueCapacity) {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        // Thrown as is from submit, so the request gets the exception's 503
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            throw new ServiceUnavailableException("Too many task lists being streamed, please retry shortly");
+        });
+        executor.initialize();
+        // executor.queued, executor.active, ... tagged name=mvcAsync; the load test watches the queue
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "mvcAsync", List.of());
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(executor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskflow.backend.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Cache sizes and TTLs are set through spring.cache.caffeine.spec; the caches are
+// created at startup so actuator binds their hit/miss metrics (cache.gets).
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    public static final String BOARDS = "boards";
+    public static final String BOARD_COLUMNS = "boardColumns";
+    public static final String USERS_BY_EMAIL = "usersByEmail";
+}
@@ -0,0 +1,17 @@
+package com.taskflow.backend.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Blackbird replaces Jackson's reflective getter/setter calls with generated
+// lambdas; Spring Boot registers every Module bean with the shared ObjectMapper.
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskflow.backend.config;
+
+import com.taskflow.backend.dto.AuthResponse;
+import com.taskflow.backend.service.JwtService;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authenticates requests from the bearer token alone. The principal is an
+ * {@link AuthResponse.UserDto} built from the token claims, so no user lookup
+ * happens per request. Created by SecurityConfig rather than as a bean, so the
+ * servlet container does not also register it outside the security chain.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    
+    private static final String BEARER_PREFIX = "Bearer ";
+    
+    private final JwtService jwtService;
+    
+    public JwtAuthenticationFilter(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token != null) {
+            try {
+                AuthResponse.UserDto user = jwtService.extractUser(token);
+                if (user != null) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(user, null, List.of());
+                    SecurityContext context = SecurityContextHolder.createEmptyContext();
+                    context.setAuthentication(authentication);
+                    SecurityContextHolder.setContext(context);
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                // Left unauthenticated; protected endpoints answer 401
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+    
+    private String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length());
+        }
+        // EventSource cannot set headers, so the board event stream takes the token as a parameter
+        if (request.getRequestURI().endsWith("/events")) {
+            return request.getParameter("access_token");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskflow.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+@Configuration
+public class MongoConfig {
+    
+    // Multi-document transactions need MongoDB running as a replica set (a
+    // single-node one is enough). On a standalone server @Transactional methods
+    // still run, but each write is only atomic on its own document.
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            MongoDatabaseFactory databaseFactory,
+            @Value("${taskflow.mongodb.transactions.enabled:false}") boolean transactionsEnabled) {
+        if (transactionsEnabled) {
+            return new MongoTransactionManager(databaseFactory);
+        }
+        return new NonTransactionalManager();
+    }
+    
+    // Never activates synchronization, so MongoTemplate does not try to open a
+    // session-bound transaction on a server that cannot support it.
+    static class NonTransactionalManager extends AbstractPlatformTransactionManager {
+        
+        NonTransactionalManager() {
+            setTransactionSynchronization(SYNCHRONIZATION_NEVER);
+        }
+        
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+        
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+        
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+        
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.taskflow.backend.config;
+
+import com.taskflow.backend.monitoring.QueryPlans;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryFactoryInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Creates the indexes declared on the models ({@code @Indexed},
+ * {@code @CompoundIndex}) once the application is ready, on a background thread
+ * so a long index build does not hold up startup. It then explains every
+ * derived repository finder with placeholder arguments and logs a warning for
+ * each one that would scan a whole collection or sort in memory, so a missing
+ * index shows up in the logs of the environment it is missing from.
+ */
+@Component
+public class MongoIndexInitializer {
+    
+    private static final Logger log = LoggerFactory.getLogger(MongoIndexInitializer.class);
+    
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    
+    @Autowired
+    private ApplicationContext applicationContext;
+    
+    @Value("${taskflow.mongodb.indexes.create:true}")
+    private boolean create;
+    
+    @Value("${taskflow.mongodb.indexes.verify:true}")
+    private boolean verify;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!create && !verify) {
+            return;
+        }
+        // A daemon thread rather than the task executor, which waits for running
+        // tasks on shutdown and could be held up by a long index build
+        Thread worker = new Thread(() -> {
+            if (create) {
+                createIndexes();
+            }
+            if (verify) {
+                verifyFinders();
+            }
+        }, "mongo-index-initializer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+    
+    void createIndexes() {
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext =
+                mongoTemplate.getConverter().getMappingContext();
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            IndexOperations indexOps = mongoTemplate.indexOps(entity.getType());
+            for (IndexDefinition index : resolver.resolveIndexFor(entity.getTypeInformation())) {
+                try {
+                    // Blocks until built; servers since 4.2 build without holding the collection lock
+                    String name = indexOps.ensureIndex(index);
+                    log.debug("Index {} on {} is in place", name, entity.getCollection());
+                } catch (DataAccessException e) {
+                    log.warn("Could not create index {} on {}: {}", index.getIndexKeys().toJson(),
+                            entity.getCollection(), e.getMessage());
+                }
+            }
+        }
+    }
+    
+    @SuppressWarnings("rawtypes")
+    void verifyFinders() {
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext =
+                mongoTemplate.getConverter().getMappingContext();
+        int checked = 0;
+        int unindexed = 0;
+        for (RepositoryFactoryInformation factory : applicationContext
+                .getBeansOfType(RepositoryFactoryInformation.class, false, false).values()) {
+            RepositoryInformation repository = factory.getRepositoryInformation();
+            MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(repository.getDomainType());
+            for (Method method : repository.getQueryMethods()) {
+                Document find = findCommand(method, entity, mappingContext);
+                if (find == null) {
+                    continue;
+                }
+                String finder = repository.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                Document plan;
+                try {
+                    plan = QueryPlans.winningPlan(
+                            mongoTemplate.executeCommand(new Document("explain", find).append("verbosity", "queryPlanner")));
+                } catch (DataAccessException e) {
+                    log.warn("Could not verify repository finder indexes, explain failed: {}", e.getMessage());
+                    return;
+                }
+                if (plan == null) {
+                    continue;
+                }
+                checked++;
+                String description = QueryPlans.describe(plan);
+                if (QueryPlans.hasStage(plan, "COLLSCAN")) {
+                    unindexed++;
+                    log.warn("{} scans the whole {} collection ({}): no index on {}",
+                            finder, entity.getCollection(), description, find.get("filter", Document.class).keySet());
+                } else if (QueryPlans.hasStage(plan, "SORT")) {
+                    unindexed++;
+                    log.warn("{} sorts {} in memory ({}): no index on {} followed by {}",
+                            finder, entity.getCollection(), description,
+                            find.get("filter", Document.class).keySet(), find.get("sort", Document.class).keySet());
+                } else {
+                    log.debug("{} uses {}", finder, description);
+                }
+            }
+        }
+        if (unindexed > 0) {
+            log.warn("{} of {} repository finders are not fully served by an index", unindexed, checked);
+        } else {
+            log.info("All {} repository finders are served by an index", checked);
+        }
+    }
+    
+    // The find command a derived finder issues, with placeholder arguments; null for
+    // methods with an explicit query
+    private Document findCommand(Method method, MongoPersistentEntity<?> entity,
+                                 MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
+        if (AnnotatedElementUtils.hasAnnotation(method, Query.class)
+                || AnnotatedElementUtils.hasAnnotation(method, Aggregation.class)) {
+            return null;
+        }
+        PartTree tree;
+        try {
+            tree = new PartTree(method.getName(), entity.getType());
+        } catch (RuntimeException e) {
+            log.debug("Not a derived query: {}", method);
+            return null;
+        }
+        
+        List<Document> branches = new ArrayList<>();
+        for (PartTree.OrPart orPart : tree) {
+            Document branch = new Document();
+            for (Part part : orPart) {
+                branch.put(fieldName(part.getProperty(), mappingContext), placeholderCondition(part));
+            }
+            branches.add(branch);
+        }
+        Document filter = branches.size() == 1 ? branches.get(0) : new Document("$or", branches);
+        
+        Document sort = new Document();
+        for (Sort.Order order : tree.getSort()) {
+            PropertyPath property = PropertyPath.from(order.getProperty(), entity.getTypeInformation());
+            sort.put(fieldName(property, mappingContext), order.isAscending() ? 1 : -1);
+        }
+        return new Document("find", entity.getCollection()).append("filter", filter).append("sort", sort);
+    }
+    
+    private String fieldName(PropertyPath property,
+                             MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
+        return mappingContext.getPersistentPropertyPath(property).toDotPath(MongoPersistentProperty::getFieldName);
+    }
+    
+    // Range and pattern operators use the same indexes as equality, so equality stands in for them
+    private Object placeholderCondition(Part part) {
+        Object value = placeholderValue(part.getProperty().getLeafType());
+        return switch (part.getType()) {
+            case TRUE -> true;
+            case FALSE -> false;
+            case IS_NULL -> null;
+            case IS_NOT_NULL, EXISTS -> new Document("$exists", true);
+            case IN -> new Document("$in", List.of(value));
+            default -> value;
+        };
+    }
+    
+    private Object placeholderValue(Class<?> type) {
+        if (type.isEnum()) {
+            return ((Enum<?>) type.getEnumConstants()[0]).name();
+        }
+        if (Number.class.isAssignableFrom(type) || (type.isPrimitive() && type != boolean.class)) {
+            return 0;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return false;
+        }
+        if (Temporal.class.isAssignableFrom(type) || Date.class.isAssignableFrom(type)) {
+            return new Date(0);
+        }
+        return "";
+    }
+}
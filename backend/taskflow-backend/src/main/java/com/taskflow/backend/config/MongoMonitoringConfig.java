@@ -0,0 +1,42 @@
+package com.taskflow.backend.config;
+
+import com.taskflow.backend.monitoring.RepositoryMethodCommandTagsProvider;
+import com.taskflow.backend.monitoring.RepositoryMethodTracker;
+import com.taskflow.backend.monitoring.SlowCommandLog;
+import io.micrometer.core.instrument.binder.mongodb.MongoCommandTagsProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+// Spring Boot already times every Mongo command (mongodb.driver.commands); this
+// adds which repository method issued it, and keeps the slow ones for
+// /actuator/slowqueries.
+@Configuration
+public class MongoMonitoringConfig {
+    
+    @Bean
+    public MongoCommandTagsProvider mongoCommandTagsProvider() {
+        return new RepositoryMethodCommandTagsProvider();
+    }
+    
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowCommandLogCustomizer(SlowCommandLog slowCommandLog) {
+        return settings -> settings.addCommandListener(slowCommandLog);
+    }
+    
+    // Static so it is registered before the repository factory beans are created
+    @Bean
+    public static BeanPostProcessor repositoryMethodTrackerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(RepositoryMethodTracker.customizer());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -7,8 +7,11 @@ import com.taskflow.backend.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/auth")
 @CrossOrigin(origins = "http://localhost:4200")
@@ -18,35 +21,18 @@ public class AuthController {
     private AuthService authService;
     
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
-        try {
-            AuthResponse response = authService.login(loginRequest);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            throw e;
-        }
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        return authService.login(loginRequest).thenApply(ResponseEntity::ok);
     }
     
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest registerRequest) {
-        try {
-            AuthResponse response = authService.register(registerRequest);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            throw e;
-        }
+    public CompletableFuture<ResponseEntity<AuthResponse>> register(@Valid @RequestBody RegisterRequest registerRequest) {
+        return authService.register(registerRequest).thenApply(ResponseEntity::ok);
     }
     
     @GetMapping("/me")
-    public ResponseEntity<AuthResponse.UserDto> getCurrentUser(@RequestHeader("Authorization") String token) {
-        // This would be implemented with proper JWT validation
-        // For now, return a mock response
-        AuthResponse.UserDto user = new AuthResponse.UserDto(
-                "1",
-                "user@example.com",
-                "Test User",
-                null
-        );
+    public ResponseEntity<AuthResponse.UserDto> getCurrentUser(@AuthenticationPrincipal AuthResponse.UserDto user) {
+        // Built from the token claims by JwtAuthenticationFilter
         return ResponseEntity.ok(user);
     }
 }
@@ -1,13 +1,32 @@
 package com.taskflow.backend.controller;
 
+import com.taskflow.backend.dto.AuthResponse;
+import com.taskflow.backend.dto.BoardAnalytics;
+import com.taskflow.backend.dto.BoardSnapshot;
+import com.taskflow.backend.event.BoardChangeEvent;
+import com.taskflow.backend.exception.ConflictException;
 import com.taskflow.backend.model.Board;
 import com.taskflow.backend.repository.BoardRepository;
-import com.taskflow.backend.repository.ColumnRepository;
-import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.service.BoardAnalyticsService;
+import com.taskflow.backend.service.BoardEventBroadcaster;
+import com.taskflow.backend.service.BoardSnapshotService;
+import com.taskflow.backend.service.CascadeDeleteService;
+import com.taskflow.backend.service.EntityTagService;
+import com.taskflow.backend.service.RankService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -21,68 +40,126 @@ public class BoardController {
     private BoardRepository boardRepository;
     
     @Autowired
-    private ColumnRepository columnRepository;
+    private BoardSnapshotService boardSnapshotService;
     
     @Autowired
-    private TaskRepository taskRepository;
+    private CascadeDeleteService cascadeDeleteService;
+    
+    @Autowired
+    private BoardEventBroadcaster boardEventBroadcaster;
+    
+    @Autowired
+    private BoardAnalyticsService boardAnalyticsService;
+    
+    @Autowired
+    private RankService rankService;
+    
+    @Autowired
+    private EntityTagService entityTagService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     @GetMapping
-    public ResponseEntity<List<Board>> getAllBoards(@RequestParam String ownerId) {
+    public ResponseEntity<List<Board>> getAllBoards(@RequestParam String ownerId,
+                                                    @AuthenticationPrincipal AuthResponse.UserDto user) {
+        if (!ownerId.equals(user.getId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         List<Board> boards = boardRepository.findByOwnerIdAndIsArchivedFalse(ownerId);
         return ResponseEntity.ok(boards);
     }
     
+    // Boards are cached, so If-None-Match is checked against the loaded board
     @GetMapping("/{id}")
     public ResponseEntity<Board> getBoardById(@PathVariable String id) {
         Optional<Board> board = boardRepository.findById(id);
-        return board.map(ResponseEntity::ok)
+        return board.map(found -> ResponseEntity.ok().eTag(EntityTagService.tagOf(found)).body(found))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/{id}/snapshot")
+    public ResponseEntity<BoardSnapshot> getBoardSnapshot(@PathVariable String id, WebRequest request) {
+        // Revalidating a cached copy only reads the versions of the board, its columns and tasks
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> tag = entityTagService.currentSnapshotTag(id);
+            if (tag.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (request.checkNotModified(tag.get())) {
+                return null; // 304 already set
+            }
+        }
+        Optional<BoardSnapshot> snapshot = boardSnapshotService.getSnapshot(id);
+        return snapshot.map(found -> ResponseEntity.ok().eTag(EntityTagService.tagOf(found)).body(found))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    // Cumulative flow, throughput and cycle time per day, read from daily counters
+    @GetMapping("/{id}/analytics")
+    public ResponseEntity<BoardAnalytics> getBoardAnalytics(
+            @PathVariable String id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Optional<BoardAnalytics> analytics = boardAnalyticsService.getAnalytics(id, from, to);
+        return analytics.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    // Server-Sent Events stream of changes to this board; see BoardChangeEvent
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBoardEvents(@PathVariable String id) {
+        return boardEventBroadcaster.subscribe(id);
+    }
+    
     @PostMapping
-    public ResponseEntity<Board> createBoard(@RequestBody Board board) {
+    public ResponseEntity<Board> createBoard(@RequestBody Board board,
+                                             @AuthenticationPrincipal AuthResponse.UserDto user) {
+        board.setOwnerId(user.getId());
         board.setCreatedAt(LocalDateTime.now());
         board.setUpdatedAt(LocalDateTime.now());
+        board.setColumnOrder(null); // columns are ordered by their rank
+        board.setVersion(null);
         Board savedBoard = boardRepository.save(board);
-        return ResponseEntity.ok(savedBoard);
+        return ResponseEntity.ok().eTag(EntityTagService.tagOf(savedBoard)).body(savedBoard);
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<Board> updateBoard(@PathVariable String id, @RequestBody Board boardDetails) {
+    public ResponseEntity<Board> updateBoard(@PathVariable String id, @RequestBody Board boardDetails,
+                                             WebRequest request) {
         Optional<Board> boardOptional = boardRepository.findById(id);
         if (boardOptional.isPresent()) {
-            Board board = boardOptional.get();
+            Board board = new Board(boardOptional.get()); // the looked-up one may be cached
+            if (request.checkNotModified(EntityTagService.tagOf(board))) {
+                return null; // 412, If-Match names another version
+            }
+            if (boardDetails.getVersion() != null && !boardDetails.getVersion().equals(board.getVersion())) {
+                throw new ConflictException("Board was changed by someone else: " + id);
+            }
             board.setTitle(boardDetails.getTitle());
             board.setDescription(boardDetails.getDescription());
             board.setUpdatedAt(LocalDateTime.now());
-            Board updatedBoard = boardRepository.save(board);
-            return ResponseEntity.ok(updatedBoard);
+            Board updatedBoard = save(board);
+            publish(updatedBoard, BoardChangeEvent.Action.UPDATED);
+            return ResponseEntity.ok().eTag(EntityTagService.tagOf(updatedBoard)).body(updatedBoard);
         }
         return ResponseEntity.notFound().build();
     }
     
+    // Rewrites the rank of every column on the board; single moves should use PATCH /columns/{id}/move
     @PutMapping("/{id}/column-order")
     public ResponseEntity<Board> updateColumnOrder(@PathVariable String id, @RequestBody List<String> columnOrder) {
-        Optional<Board> boardOptional = boardRepository.findById(id);
-        if (boardOptional.isPresent()) {
-            Board board = boardOptional.get();
-            board.setColumnOrder(columnOrder);
-            board.setUpdatedAt(LocalDateTime.now());
-            Board updatedBoard = boardRepository.save(board);
-            return ResponseEntity.ok(updatedBoard);
-        }
-        return ResponseEntity.notFound().build();
+        Optional<Board> board = rankService.reorderColumns(id, columnOrder);
+        return board.map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
     
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBoard(@PathVariable String id) {
-        if (boardRepository.existsById(id)) {
-            // Delete all columns and tasks associated with this board
-            columnRepository.findByBoardId(id).forEach(column -> {
-                taskRepository.findByColumnId(column.getId()).forEach(task -> taskRepository.deleteById(task.getId()));
-                columnRepository.deleteById(column.getId());
-            });
-            boardRepository.deleteById(id);
+        // Columns and tasks are removed in bulk together with the board
+        if (cascadeDeleteService.deleteBoard(id)) {
+            eventPublisher.publishEvent(new BoardChangeEvent(id, BoardChangeEvent.EntityType.BOARD,
+                    BoardChangeEvent.Action.DELETED, id, null));
             return ResponseEntity.ok().build();
         }
         return ResponseEntity.notFound().build();
@@ -92,15 +169,26 @@ public class BoardController {
     public ResponseEntity<Board> archiveBoard(@PathVariable String id) {
         Optional<Board> boardOptional = boardRepository.findById(id);
         if (boardOptional.isPresent()) {
-            Board board = boardOptional.get();
+            Board board = new Board(boardOptional.get()); // the looked-up one may be cached
             board.setArchived(true);
             board.setUpdatedAt(LocalDateTime.now());
-            Board updatedBoard = boardRepository.save(board);
-            return ResponseEntity.ok(updatedBoard);
+            Board updatedBoard = save(board);
+            publish(updatedBoard, BoardChangeEvent.Action.UPDATED);
+            return ResponseEntity.ok().eTag(EntityTagService.tagOf(updatedBoard)).body(updatedBoard);
         }
         return ResponseEntity.notFound().build();
     }
+    
+    private Board save(Board board) {
+        try {
+            return boardRepository.save(board);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConflictException("Board was changed by someone else: " + board.getId());
+        }
+    }
+    
+    private void publish(Board board, BoardChangeEvent.Action action) {
+        eventPublisher.publishEvent(new BoardChangeEvent(board.getId(), BoardChangeEvent.EntityType.BOARD,
+                action, board.getId(), board));
+    }
 }
-
-
-
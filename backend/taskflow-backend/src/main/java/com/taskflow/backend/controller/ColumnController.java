@@ -1,11 +1,22 @@
 package com.taskflow.backend.controller;
 
+import com.taskflow.backend.dto.MoveColumnRequest;
+import com.taskflow.backend.event.BoardChangeEvent;
+import com.taskflow.backend.exception.ConflictException;
 import com.taskflow.backend.model.Column;
 import com.taskflow.backend.repository.ColumnRepository;
-import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.service.CascadeDeleteService;
+import com.taskflow.backend.service.ColumnService;
+import com.taskflow.backend.service.EntityTagService;
+import com.taskflow.backend.service.RankService;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,18 +31,40 @@ public class ColumnController {
     private ColumnRepository columnRepository;
     
     @Autowired
-    private TaskRepository taskRepository;
+    private CascadeDeleteService cascadeDeleteService;
+    
+    @Autowired
+    private RankService rankService;
+    
+    @Autowired
+    private ColumnService columnService;
+    
+    @Autowired
+    private EntityTagService entityTagService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     @GetMapping("/board/{boardId}")
     public ResponseEntity<List<Column>> getColumnsByBoard(@PathVariable String boardId) {
-        List<Column> columns = columnRepository.findByBoardIdOrderByPosition(boardId);
+        List<Column> columns = columnRepository.findByBoardIdOrderByRank(boardId);
         return ResponseEntity.ok(columns);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Column> getColumnById(@PathVariable String id) {
+    public ResponseEntity<Column> getColumnById(@PathVariable String id, WebRequest request) {
+        // Revalidating a cached copy only reads the column's version
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> tag = entityTagService.currentTag(Column.class, id);
+            if (tag.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (request.checkNotModified(tag.get())) {
+                return null; // 304 already set
+            }
+        }
         Optional<Column> column = columnRepository.findById(id);
-        return column.map(ResponseEntity::ok)
+        return column.map(found -> ResponseEntity.ok().eTag(EntityTagService.tagOf(found)).body(found))
                 .orElse(ResponseEntity.notFound().build());
     }
     
@@ -39,60 +72,74 @@ public class ColumnController {
     public ResponseEntity<Column> createColumn(@RequestBody Column column) {
         column.setCreatedAt(LocalDateTime.now());
         column.setUpdatedAt(LocalDateTime.now());
+        column.setVersion(null);
+        column.setTaskCount(0);
+        column.setRank(rankService.rankForColumn(column.getBoardId(), null, null, null, null));
         Column savedColumn = columnRepository.save(column);
-        return ResponseEntity.ok(savedColumn);
+        publish(savedColumn, BoardChangeEvent.Action.CREATED);
+        return ResponseEntity.ok().eTag(EntityTagService.tagOf(savedColumn)).body(savedColumn);
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<Column> updateColumn(@PathVariable String id, @RequestBody Column columnDetails) {
+    public ResponseEntity<Column> updateColumn(@PathVariable String id, @RequestBody Column columnDetails,
+                                               WebRequest request) {
         Optional<Column> columnOptional = columnRepository.findById(id);
         if (columnOptional.isPresent()) {
             Column column = columnOptional.get();
+            if (request.checkNotModified(EntityTagService.tagOf(column))) {
+                return null; // 412, If-Match names another version
+            }
+            if (columnDetails.getVersion() != null && !columnDetails.getVersion().equals(column.getVersion())) {
+                throw new ConflictException("Column was changed by someone else: " + id);
+            }
             column.setTitle(columnDetails.getTitle());
             column.setUpdatedAt(LocalDateTime.now());
-            Column updatedColumn = columnRepository.save(column);
-            return ResponseEntity.ok(updatedColumn);
+            Column updatedColumn;
+            try {
+                updatedColumn = columnService.update(column);
+            } catch (OptimisticLockingFailureException e) {
+                throw new ConflictException("Column was changed by someone else: " + id);
+            }
+            publish(updatedColumn, BoardChangeEvent.Action.UPDATED);
+            return ResponseEntity.ok().eTag(EntityTagService.tagOf(updatedColumn)).body(updatedColumn);
         }
         return ResponseEntity.notFound().build();
     }
     
+    // Rewrites the rank of every task in the column; single moves should use PATCH /tasks/{id}/move
     @PutMapping("/{id}/task-order")
     public ResponseEntity<Column> updateTaskOrder(@PathVariable String id, @RequestBody List<String> taskIds) {
-        Optional<Column> columnOptional = columnRepository.findById(id);
-        if (columnOptional.isPresent()) {
-            Column column = columnOptional.get();
-            column.setTaskIds(taskIds);
-            column.setUpdatedAt(LocalDateTime.now());
-            Column updatedColumn = columnRepository.save(column);
-            return ResponseEntity.ok(updatedColumn);
-        }
-        return ResponseEntity.notFound().build();
+        Optional<Column> column = rankService.reorderTasks(id, taskIds);
+        return column.map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
     
     @PutMapping("/{id}/position")
     public ResponseEntity<Column> updatePosition(@PathVariable String id, @RequestBody int position) {
-        Optional<Column> columnOptional = columnRepository.findById(id);
-        if (columnOptional.isPresent()) {
-            Column column = columnOptional.get();
-            column.setPosition(position);
-            column.setUpdatedAt(LocalDateTime.now());
-            Column updatedColumn = columnRepository.save(column);
-            return ResponseEntity.ok(updatedColumn);
-        }
-        return ResponseEntity.notFound().build();
+        Optional<Column> column = rankService.moveColumn(id, Math.max(position, 0), null, null);
+        return column.map(moved -> ResponseEntity.ok().eTag(EntityTagService.tagOf(moved)).body(moved))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PatchMapping("/{id}/move")
+    public ResponseEntity<Column> moveColumn(@PathVariable String id, @Valid @RequestBody MoveColumnRequest moveRequest) {
+        Optional<Column> column = rankService.moveColumn(id, moveRequest.getIndex(), moveRequest.getAfterId(),
+                moveRequest.getBeforeId());
+        return column.map(moved -> ResponseEntity.ok().eTag(EntityTagService.tagOf(moved)).body(moved))
+                .orElse(ResponseEntity.notFound().build());
     }
     
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteColumn(@PathVariable String id) {
-        if (columnRepository.existsById(id)) {
-            // Delete all tasks in this column
-            taskRepository.findByColumnId(id).forEach(task -> taskRepository.deleteById(task.getId()));
-            columnRepository.deleteById(id);
+        // Tasks in this column are removed in bulk together with the column
+        if (cascadeDeleteService.deleteColumn(id)) {
             return ResponseEntity.ok().build();
         }
         return ResponseEntity.notFound().build();
     }
+    
+    private void publish(Column column, BoardChangeEvent.Action action) {
+        eventPublisher.publishEvent(new BoardChangeEvent(column.getBoardId(), BoardChangeEvent.EntityType.COLUMN,
+                action, column.getId(), column));
+    }
 }
-
-
-
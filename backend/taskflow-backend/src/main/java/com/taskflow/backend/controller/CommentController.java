@@ -0,0 +1,35 @@
+package com.taskflow.backend.controller;
+
+import com.taskflow.backend.dto.CommentPage;
+import com.taskflow.backend.model.Comment;
+import com.taskflow.backend.service.CommentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/tasks/{taskId}/comments")
+@CrossOrigin(origins = "http://localhost:4200")
+public class CommentController {
+    
+    @Autowired
+    private CommentService commentService;
+    
+    @GetMapping
+    public ResponseEntity<CommentPage> getComments(@PathVariable String taskId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer limit) {
+        Optional<CommentPage> comments = commentService.getComments(taskId, cursor, limit);
+        return comments.map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PostMapping
+    public ResponseEntity<Comment> addComment(@PathVariable String taskId, @RequestBody Comment comment) {
+        Optional<Comment> savedComment = commentService.addComment(taskId, comment);
+        return savedComment.map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
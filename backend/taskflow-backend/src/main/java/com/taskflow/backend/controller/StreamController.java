@@ -0,0 +1,68 @@
+package com.taskflow.backend.controller;
+
+import com.taskflow.backend.model.Board;
+import com.taskflow.backend.model.Column;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.ReactiveBoardRepository;
+import com.taskflow.backend.repository.ReactiveColumnRepository;
+import com.taskflow.backend.repository.ReactiveTaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking read API backed by the reactive Mongo driver. List endpoints
+ * write each document as soon as it arrives (NDJSON, or Server-Sent Events
+ * when the client asks for text/event-stream) and only request the next one
+ * once it has been flushed, so memory per request stays flat however large the
+ * board is, and no request thread waits on the database.
+ */
+@RestController
+@RequestMapping("/stream")
+@CrossOrigin(origins = "http://localhost:4200")
+public class StreamController {
+    
+    @Autowired
+    private ReactiveBoardRepository boardRepository;
+    
+    @Autowired
+    private ReactiveColumnRepository columnRepository;
+    
+    @Autowired
+    private ReactiveTaskRepository taskRepository;
+    
+    @GetMapping("/boards/{id}")
+    public Mono<ResponseEntity<Board>> getBoard(@PathVariable String id) {
+        return boardRepository.findById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping(value = "/boards/{boardId}/columns", produces = {
+            MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE
+    })
+    public Flux<Column> getColumnsByBoard(@PathVariable String boardId) {
+        return columnRepository.findByBoardIdOrderByRank(boardId);
+    }
+    
+    // Tasks arrive in creation order; clients place them within a column by rank
+    @GetMapping(value = "/boards/{boardId}/tasks", produces = {
+            MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE
+    })
+    public Flux<Task> getTasksByBoard(@PathVariable String boardId) {
+        return taskRepository.findByBoardIdOrderByCreatedAt(boardId);
+    }
+    
+    @GetMapping(value = "/columns/{columnId}/tasks", produces = {
+            MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE
+    })
+    public Flux<Task> getTasksByColumn(@PathVariable String columnId) {
+        return taskRepository.findByColumnIdOrderByRank(columnId);
+    }
+}
@@ -1,11 +1,40 @@
 package com.taskflow.backend.controller;
 
+import com.taskflow.backend.dto.AuthResponse;
+import com.taskflow.backend.dto.MoveTaskRequest;
+import com.taskflow.backend.dto.TaskPage;
+import com.taskflow.backend.dto.TaskQuery;
+import com.taskflow.backend.dto.TaskSearchPage;
+import com.taskflow.backend.dto.UpdateChecklistItemRequest;
+import com.taskflow.backend.event.BoardChangeEvent;
+import com.taskflow.backend.exception.ConflictException;
+import com.taskflow.backend.model.Board;
 import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.BoardRepository;
 import com.taskflow.backend.repository.TaskRepository;
-import com.taskflow.backend.repository.ColumnRepository;
+import com.taskflow.backend.service.BoardAnalyticsService;
+import com.taskflow.backend.service.CascadeDeleteService;
+import com.taskflow.backend.service.ChecklistService;
+import com.taskflow.backend.service.ColumnTaskCountService;
+import com.taskflow.backend.service.CommentService;
+import com.taskflow.backend.service.EntityTagService;
+import com.taskflow.backend.service.RankService;
+import com.taskflow.backend.service.TaskMoveService;
+import com.taskflow.backend.service.TaskPageService;
+import com.taskflow.backend.service.TaskSearchService;
+import com.taskflow.backend.service.TaskStreamService;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,24 +49,127 @@ public class TaskController {
     private TaskRepository taskRepository;
     
     @Autowired
-    private ColumnRepository columnRepository;
+    private BoardRepository boardRepository;
     
+    @Autowired
+    private CommentService commentService;
+    
+    @Autowired
+    private ChecklistService checklistService;
+    
+    @Autowired
+    private TaskMoveService taskMoveService;
+    
+    @Autowired
+    private RankService rankService;
+    
+    @Autowired
+    private ColumnTaskCountService columnTaskCountService;
+    
+    @Autowired
+    private CascadeDeleteService cascadeDeleteService;
+    
+    @Autowired
+    private EntityTagService entityTagService;
+    
+    @Autowired
+    private TaskPageService taskPageService;
+    
+    @Autowired
+    private TaskStreamService taskStreamService;
+    
+    @Autowired
+    private TaskSearchService taskSearchService;
+    
+    @Autowired
+    private BoardAnalyticsService boardAnalyticsService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    // Filtered listing, e.g. ?boardId=...&assigneeId=me&priority=URGENT&overdue=true
+    @GetMapping
+    public ResponseEntity<TaskPage> queryTasks(TaskQuery query,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer limit,
+                                               @RequestParam(required = false) List<String> fields,
+                                               @AuthenticationPrincipal AuthResponse.UserDto user) {
+        if ("me".equals(query.getAssigneeId())) {
+            query.setAssigneeId(user.getId());
+        }
+        return ResponseEntity.ok(taskPageService.query(query, cursor, limit, fields));
+    }
+    
+    // Task lists are streamed from the cursor rather than collected first
     @GetMapping("/board/{boardId}")
-    public ResponseEntity<List<Task>> getTasksByBoard(@PathVariable String boardId) {
-        List<Task> tasks = taskRepository.findByBoardId(boardId);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<StreamingResponseBody> getTasksByBoard(@PathVariable String boardId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(taskStreamService.streamByBoard(boardId));
     }
     
     @GetMapping("/column/{columnId}")
-    public ResponseEntity<List<Task>> getTasksByColumn(@PathVariable String columnId) {
-        List<Task> tasks = taskRepository.findByColumnId(columnId);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<StreamingResponseBody> getTasksByColumn(@PathVariable String columnId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(taskStreamService.streamByColumn(columnId));
+    }
+    
+    @GetMapping("/board/{boardId}/page")
+    public ResponseEntity<TaskPage> getTaskPageByBoard(@PathVariable String boardId,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer limit,
+                                                       @RequestParam(required = false) List<String> fields) {
+        return ResponseEntity.ok(taskPageService.findByBoard(boardId, cursor, limit, fields));
+    }
+    
+    @GetMapping("/column/{columnId}/page")
+    public ResponseEntity<TaskPage> getTaskPageByColumn(@PathVariable String columnId,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer limit,
+                                                        @RequestParam(required = false) List<String> fields) {
+        return ResponseEntity.ok(taskPageService.findByColumn(columnId, cursor, limit, fields));
+    }
+    
+    // Searches one board, or every board of the owner (the current user by default);
+    // either must belong to the current user
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchPage> searchTasks(@RequestParam String q,
+                                                      @RequestParam(required = false) String boardId,
+                                                      @RequestParam(required = false) String ownerId,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      @AuthenticationPrincipal AuthResponse.UserDto user) {
+        if (boardId != null) {
+            Optional<Board> board = boardRepository.findById(boardId); // cached
+            if (board.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (!user.getId().equals(board.get().getOwnerId())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            return ResponseEntity.ok(taskSearchService.searchBoard(boardId, q, cursor, limit));
+        }
+        if (ownerId != null && !ownerId.equals(user.getId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(taskSearchService.searchOwner(user.getId(), q, cursor, limit));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable String id) {
+    public ResponseEntity<Task> getTaskById(@PathVariable String id, WebRequest request) {
+        // Revalidating a cached copy only reads the task's version
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> tag = entityTagService.currentTag(Task.class, id);
+            if (tag.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (request.checkNotModified(tag.get())) {
+                return null; // 304 already set
+            }
+        }
         Optional<Task> task = taskRepository.findById(id);
-        return task.map(ResponseEntity::ok)
+        return task.map(found -> ResponseEntity.ok().eTag(EntityTagService.tagOf(found)).body(found))
                 .orElse(ResponseEntity.notFound().build());
     }
     
@@ -45,168 +177,133 @@ public class TaskController {
     public ResponseEntity<Task> createTask(@RequestBody Task task) {
         task.setCreatedAt(LocalDateTime.now());
         task.setUpdatedAt(LocalDateTime.now());
-        Task savedTask = taskRepository.save(task);
-        
-        // Update column's taskIds
-        Optional<com.taskflow.backend.model.Column> columnOptional = columnRepository.findById(task.getColumnId());
-        if (columnOptional.isPresent()) {
-            com.taskflow.backend.model.Column column = columnOptional.get();
-            List<String> taskIds = column.getTaskIds();
-            if (taskIds == null) {
-                taskIds = new java.util.ArrayList<>();
-            }
-            taskIds.add(savedTask.getId());
-            column.setTaskIds(taskIds);
-            column.setUpdatedAt(LocalDateTime.now());
-            columnRepository.save(column);
+        task.setComments(null); // comments live in their own collection
+        task.setVersion(null);
+        // Fails when the column is at its WIP limit
+        if (task.getColumnId() != null) {
+            columnTaskCountService.reserve(task.getColumnId(), task.getBoardId());
+        }
+        Task savedTask;
+        try {
+            task.setRank(rankService.rankForTask(task.getColumnId(), null, null, null, null));
+            savedTask = taskRepository.save(task);
+        } catch (RuntimeException e) {
+            columnTaskCountService.release(task.getColumnId());
+            throw e;
         }
+        boardAnalyticsService.recordCreated(savedTask);
         
-        return ResponseEntity.ok(savedTask);
+        publish(savedTask, BoardChangeEvent.Action.CREATED);
+        return ResponseEntity.ok().eTag(EntityTagService.tagOf(savedTask)).body(savedTask);
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<Task> updateTask(@PathVariable String id, @RequestBody Task taskDetails) {
+    public ResponseEntity<Task> updateTask(@PathVariable String id, @RequestBody Task taskDetails,
+                                           WebRequest request) {
         Optional<Task> taskOptional = taskRepository.findById(id);
         if (taskOptional.isPresent()) {
             Task task = taskOptional.get();
+            if (request.checkNotModified(EntityTagService.tagOf(task))) {
+                return null; // 412, If-Match names another version
+            }
+            if (taskDetails.getVersion() != null && !taskDetails.getVersion().equals(task.getVersion())) {
+                throw new ConflictException("Task was changed by someone else: " + id);
+            }
+            commentService.migrateEmbeddedComments(task);
+            Task.TaskStatus previousStatus = task.getStatus();
+            String previousColumnId = task.getColumnId();
             
-            // If column is changing, update both columns
-            if (taskDetails.getColumnId() != null && !taskDetails.getColumnId().equals(task.getColumnId())) {
-                String oldColumnId = task.getColumnId();
-                String newColumnId = taskDetails.getColumnId();
-                
-                // Remove from old column
-                Optional<com.taskflow.backend.model.Column> oldColumnOptional = columnRepository.findById(oldColumnId);
-                if (oldColumnOptional.isPresent()) {
-                    com.taskflow.backend.model.Column oldColumn = oldColumnOptional.get();
-                    List<String> oldTaskIds = oldColumn.getTaskIds();
-                    if (oldTaskIds != null) {
-                        oldTaskIds.remove(id);
-                        oldColumn.setTaskIds(oldTaskIds);
-                        oldColumn.setUpdatedAt(LocalDateTime.now());
-                        columnRepository.save(oldColumn);
-                    }
+            // A new column takes the task at its end. The move is part of the
+            // save below, so the version check covers it too
+            boolean columnChanged = taskDetails.getColumnId() != null
+                    && !taskDetails.getColumnId().equals(previousColumnId);
+            if (columnChanged) {
+                columnTaskCountService.reserve(taskDetails.getColumnId(), task.getBoardId());
+            }
+            
+            Task updatedTask;
+            try {
+                if (columnChanged) {
+                    task.setColumnId(taskDetails.getColumnId());
+                    task.setRank(rankService.rankForTask(taskDetails.getColumnId(), id, null, null, null));
                 }
                 
-                // Add to new column
-                Optional<com.taskflow.backend.model.Column> newColumnOptional = columnRepository.findById(newColumnId);
-                if (newColumnOptional.isPresent()) {
-                    com.taskflow.backend.model.Column newColumn = newColumnOptional.get();
-                    List<String> newTaskIds = newColumn.getTaskIds();
-                    if (newTaskIds == null) {
-                        newTaskIds = new java.util.ArrayList<>();
-                    }
-                    newTaskIds.add(id);
-                    newColumn.setTaskIds(newTaskIds);
-                    newColumn.setUpdatedAt(LocalDateTime.now());
-                    columnRepository.save(newColumn);
+                // Update task fields
+                task.setTitle(taskDetails.getTitle());
+                task.setDescription(taskDetails.getDescription());
+                task.setAssigneeId(taskDetails.getAssigneeId());
+                task.setPriority(taskDetails.getPriority());
+                task.setStatus(taskDetails.getStatus());
+                task.setDueDate(taskDetails.getDueDate());
+                task.setLabels(taskDetails.getLabels());
+                task.setChecklist(taskDetails.getChecklist());
+                task.setAttachments(taskDetails.getAttachments());
+                task.setUpdatedAt(LocalDateTime.now());
+                
+                updatedTask = taskRepository.save(task);
+            } catch (RuntimeException e) {
+                if (columnChanged) {
+                    columnTaskCountService.release(taskDetails.getColumnId());
+                }
+                if (e instanceof OptimisticLockingFailureException) {
+                    throw new ConflictException("Task was changed by someone else: " + id);
                 }
+                throw e;
             }
-            
-            // Update task fields
-            task.setTitle(taskDetails.getTitle());
-            task.setDescription(taskDetails.getDescription());
-            task.setColumnId(taskDetails.getColumnId());
-            task.setAssigneeId(taskDetails.getAssigneeId());
-            task.setPriority(taskDetails.getPriority());
-            task.setStatus(taskDetails.getStatus());
-            task.setDueDate(taskDetails.getDueDate());
-            task.setLabels(taskDetails.getLabels());
-            task.setChecklist(taskDetails.getChecklist());
-            task.setComments(taskDetails.getComments());
-            task.setAttachments(taskDetails.getAttachments());
-            task.setUpdatedAt(LocalDateTime.now());
-            
-            Task updatedTask = taskRepository.save(task);
-            return ResponseEntity.ok(updatedTask);
+            if (columnChanged) {
+                columnTaskCountService.release(previousColumnId);
+                publish(updatedTask, BoardChangeEvent.Action.MOVED);
+            }
+            boardAnalyticsService.recordTransition(updatedTask, previousColumnId, previousStatus);
+            publish(updatedTask, BoardChangeEvent.Action.UPDATED);
+            return ResponseEntity.ok().eTag(EntityTagService.tagOf(updatedTask)).body(updatedTask);
         }
         return ResponseEntity.notFound().build();
     }
     
+    @PatchMapping("/{id}/move")
+    public ResponseEntity<Task> moveTask(@PathVariable String id, @Valid @RequestBody MoveTaskRequest moveRequest) {
+        Optional<Task> task = taskMoveService.moveTask(id, moveRequest);
+        return task.map(moved -> ResponseEntity.ok().eTag(EntityTagService.tagOf(moved)).body(moved))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable String id) {
-        Optional<Task> taskOptional = taskRepository.findById(id);
-        if (taskOptional.isPresent()) {
-            Task task = taskOptional.get();
-            
-            // Remove from column's taskIds
-            Optional<com.taskflow.backend.model.Column> columnOptional = columnRepository.findById(task.getColumnId());
-            if (columnOptional.isPresent()) {
-                com.taskflow.backend.model.Column column = columnOptional.get();
-                List<String> taskIds = column.getTaskIds();
-                if (taskIds != null) {
-                    taskIds.remove(id);
-                    column.setTaskIds(taskIds);
-                    column.setUpdatedAt(LocalDateTime.now());
-                    columnRepository.save(column);
-                }
-            }
-            
-            taskRepository.deleteById(id);
+        Optional<Task> deleted = cascadeDeleteService.deleteTask(id);
+        if (deleted.isPresent()) {
+            eventPublisher.publishEvent(new BoardChangeEvent(deleted.get().getBoardId(),
+                    BoardChangeEvent.EntityType.TASK, BoardChangeEvent.Action.DELETED, id, null));
             return ResponseEntity.ok().build();
         }
         return ResponseEntity.notFound().build();
     }
     
     @PostMapping("/{id}/checklist")
-    public ResponseEntity<Task> addChecklistItem(@PathVariable String id, @RequestBody Task.ChecklistItem item) {
-        Optional<Task> taskOptional = taskRepository.findById(id);
-        if (taskOptional.isPresent()) {
-            Task task = taskOptional.get();
-            List<Task.ChecklistItem> checklist = task.getChecklist();
-            if (checklist == null) {
-                checklist = new java.util.ArrayList<>();
-            }
-            item.setId(java.util.UUID.randomUUID().toString());
-            item.setCreatedAt(LocalDateTime.now());
-            checklist.add(item);
-            task.setChecklist(checklist);
-            task.setUpdatedAt(LocalDateTime.now());
-            Task updatedTask = taskRepository.save(task);
-            return ResponseEntity.ok(updatedTask);
-        }
-        return ResponseEntity.notFound().build();
+    public ResponseEntity<Task.ChecklistItem> addChecklistItem(@PathVariable String id, @RequestBody Task.ChecklistItem item) {
+        Optional<Task.ChecklistItem> savedItem = checklistService.addItem(id, item);
+        return savedItem.map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
     
     @PutMapping("/{id}/checklist/{itemId}")
-    public ResponseEntity<Task> updateChecklistItem(@PathVariable String id, @PathVariable String itemId, @RequestBody Task.ChecklistItem item) {
-        Optional<Task> taskOptional = taskRepository.findById(id);
-        if (taskOptional.isPresent()) {
-            Task task = taskOptional.get();
-            List<Task.ChecklistItem> checklist = task.getChecklist();
-            if (checklist != null) {
-                for (int i = 0; i < checklist.size(); i++) {
-                    if (checklist.get(i).getId().equals(itemId)) {
-                        checklist.set(i, item);
-                        break;
-                    }
-                }
-                task.setChecklist(checklist);
-                task.setUpdatedAt(LocalDateTime.now());
-                Task updatedTask = taskRepository.save(task);
-                return ResponseEntity.ok(updatedTask);
-            }
-        }
-        return ResponseEntity.notFound().build();
+    public ResponseEntity<Task.ChecklistItem> updateChecklistItem(@PathVariable String id, @PathVariable String itemId,
+                                                                  @RequestBody UpdateChecklistItemRequest item) {
+        Optional<Task.ChecklistItem> updatedItem = checklistService.updateItem(id, itemId, item);
+        return updatedItem.map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
     
     @DeleteMapping("/{id}/checklist/{itemId}")
-    public ResponseEntity<Task> deleteChecklistItem(@PathVariable String id, @PathVariable String itemId) {
-        Optional<Task> taskOptional = taskRepository.findById(id);
-        if (taskOptional.isPresent()) {
-            Task task = taskOptional.get();
-            List<Task.ChecklistItem> checklist = task.getChecklist();
-            if (checklist != null) {
-                checklist.removeIf(item -> item.getId().equals(itemId));
-                task.setChecklist(checklist);
-                task.setUpdatedAt(LocalDateTime.now());
-                Task updatedTask = taskRepository.save(task);
-                return ResponseEntity.ok(updatedTask);
-            }
+    public ResponseEntity<Void> deleteChecklistItem(@PathVariable String id, @PathVariable String itemId) {
+        if (checklistService.deleteItem(id, itemId)) {
+            return ResponseEntity.ok().build();
         }
         return ResponseEntity.notFound().build();
     }
+    
+    private void publish(Task task, BoardChangeEvent.Action action) {
+        eventPublisher.publishEvent(new BoardChangeEvent(task.getBoardId(), BoardChangeEvent.EntityType.TASK,
+                action, task.getId(), task));
+    }
 }
-
-
-
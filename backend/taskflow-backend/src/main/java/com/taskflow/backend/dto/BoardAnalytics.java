@@ -0,0 +1,123 @@
+package com.taskflow.backend.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public class BoardAnalytics {
+    private LocalDate from;
+    private LocalDate to;
+    private List<Day> days; // one per day in [from, to]
+    private long completed; // throughput over the range
+    private CycleTime cycleTime; // of the tasks completed in the range
+    
+    // Constructors
+    public BoardAnalytics() {}
+    
+    public BoardAnalytics(LocalDate from, LocalDate to, List<Day> days, long completed, CycleTime cycleTime) {
+        this.from = from;
+        this.to = to;
+        this.days = days;
+        this.completed = completed;
+        this.cycleTime = cycleTime;
+    }
+    
+    // Getters and Setters
+    public LocalDate getFrom() {
+        return from;
+    }
+    
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+    
+    public LocalDate getTo() {
+        return to;
+    }
+    
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+    
+    public List<Day> getDays() {
+        return days;
+    }
+    
+    public void setDays(List<Day> days) {
+        this.days = days;
+    }
+    
+    public long getCompleted() {
+        return completed;
+    }
+    
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+    
+    public CycleTime getCycleTime() {
+        return cycleTime;
+    }
+    
+    public void setCycleTime(CycleTime cycleTime) {
+        this.cycleTime = cycleTime;
+    }
+    
+    // Tasks per status and per column id at the end of the day (cumulative flow),
+    // and the tasks completed that day (throughput)
+    public static class Day {
+        private LocalDate date;
+        private Map<String, Long> statuses;
+        private Map<String, Long> columns;
+        private long completed;
+        
+        // Constructors
+        public Day() {}
+        
+        public Day(LocalDate date, Map<String, Long> statuses, Map<String, Long> columns, long completed) {
+            this.date = date;
+            this.statuses = statuses;
+            this.columns = columns;
+            this.completed = completed;
+        }
+        
+        // Getters and Setters
+        public LocalDate getDate() { return date; }
+        public void setDate(LocalDate date) { this.date = date; }
+        public Map<String, Long> getStatuses() { return statuses; }
+        public void setStatuses(Map<String, Long> statuses) { this.statuses = statuses; }
+        public Map<String, Long> getColumns() { return columns; }
+        public void setColumns(Map<String, Long> columns) { this.columns = columns; }
+        public long getCompleted() { return completed; }
+        public void setCompleted(long completed) { this.completed = completed; }
+    }
+    
+    // Percentiles in hours from start of work to DONE. Each is the upper bound
+    // of the histogram bucket it falls in; null when beyond the last bucket
+    public static class CycleTime {
+        private long count;
+        private Long p50Hours;
+        private Long p85Hours;
+        private Long p95Hours;
+        
+        // Constructors
+        public CycleTime() {}
+        
+        public CycleTime(long count, Long p50Hours, Long p85Hours, Long p95Hours) {
+            this.count = count;
+            this.p50Hours = p50Hours;
+            this.p85Hours = p85Hours;
+            this.p95Hours = p95Hours;
+        }
+        
+        // Getters and Setters
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+        public Long getP50Hours() { return p50Hours; }
+        public void setP50Hours(Long p50Hours) { this.p50Hours = p50Hours; }
+        public Long getP85Hours() { return p85Hours; }
+        public void setP85Hours(Long p85Hours) { this.p85Hours = p85Hours; }
+        public Long getP95Hours() { return p95Hours; }
+        public void setP95Hours(Long p95Hours) { this.p95Hours = p95Hours; }
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskflow.backend.dto;
+
+import com.taskflow.backend.model.Board;
+import com.taskflow.backend.model.Column;
+import com.taskflow.backend.model.Task;
+
+import java.util.List;
+
+public class BoardSnapshot {
+    private Board board;
+    private List<ColumnSnapshot> columns;
+    
+    // Constructors
+    public BoardSnapshot() {}
+    
+    public BoardSnapshot(Board board, List<ColumnSnapshot> columns) {
+        this.board = board;
+        this.columns = columns;
+    }
+    
+    // Getters and Setters
+    public Board getBoard() {
+        return board;
+    }
+    
+    public void setBoard(Board board) {
+        this.board = board;
+    }
+    
+    public List<ColumnSnapshot> getColumns() {
+        return columns;
+    }
+    
+    public void setColumns(List<ColumnSnapshot> columns) {
+        this.columns = columns;
+    }
+    
+    // Nested ColumnSnapshot class
+    public static class ColumnSnapshot {
+        private Column column;
+        private List<Task> tasks;
+        
+        // Constructors
+        public ColumnSnapshot() {}
+        
+        public ColumnSnapshot(Column column, List<Task> tasks) {
+            this.column = column;
+            this.tasks = tasks;
+        }
+        
+        // Getters and Setters
+        public Column getColumn() {
+            return column;
+        }
+        
+        public void setColumn(Column column) {
+            this.column = column;
+        }
+        
+        public List<Task> getTasks() {
+            return tasks;
+        }
+        
+        public void setTasks(List<Task> tasks) {
+            this.tasks = tasks;
+        }
+    }
+}
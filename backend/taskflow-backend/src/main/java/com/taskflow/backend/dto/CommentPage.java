@@ -0,0 +1,35 @@
+package com.taskflow.backend.dto;
+
+import com.taskflow.backend.model.Comment;
+
+import java.util.List;
+
+public class CommentPage {
+    private List<Comment> items;
+    private String nextCursor; // null when there are no more results
+    
+    // Constructors
+    public CommentPage() {}
+    
+    public CommentPage(List<Comment> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+    
+    // Getters and Setters
+    public List<Comment> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<Comment> items) {
+        this.items = items;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
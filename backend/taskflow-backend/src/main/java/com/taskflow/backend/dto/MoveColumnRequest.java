@@ -0,0 +1,48 @@
+package com.taskflow.backend.dto;
+
+import jakarta.validation.constraints.Min;
+
+public class MoveColumnRequest {
+    // Position in the board; moved to the end when nothing is given
+    @Min(value = 0, message = "Index must not be negative")
+    private Integer index;
+    
+    // Neighbouring columns; take precedence over index when given
+    private String afterId;
+    
+    private String beforeId;
+    
+    // Constructors
+    public MoveColumnRequest() {}
+    
+    public MoveColumnRequest(Integer index, String afterId, String beforeId) {
+        this.index = index;
+        this.afterId = afterId;
+        this.beforeId = beforeId;
+    }
+    
+    // Getters and Setters
+    public Integer getIndex() {
+        return index;
+    }
+    
+    public void setIndex(Integer index) {
+        this.index = index;
+    }
+    
+    public String getAfterId() {
+        return afterId;
+    }
+    
+    public void setAfterId(String afterId) {
+        this.afterId = afterId;
+    }
+    
+    public String getBeforeId() {
+        return beforeId;
+    }
+    
+    public void setBeforeId(String beforeId) {
+        this.beforeId = beforeId;
+    }
+}
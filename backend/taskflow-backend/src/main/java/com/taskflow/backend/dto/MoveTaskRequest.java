@@ -0,0 +1,59 @@
+package com.taskflow.backend.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+public class MoveTaskRequest {
+    @NotBlank(message = "Target column is required")
+    private String columnId;
+    
+    // Position in the target column; appended at the end when omitted
+    @Min(value = 0, message = "Index must not be negative")
+    private Integer index;
+    
+    // Neighbours in the target column; take precedence over index when given
+    private String afterId;
+    
+    private String beforeId;
+    
+    // Constructors
+    public MoveTaskRequest() {}
+    
+    public MoveTaskRequest(String columnId, Integer index) {
+        this.columnId = columnId;
+        this.index = index;
+    }
+    
+    // Getters and Setters
+    public String getColumnId() {
+        return columnId;
+    }
+    
+    public void setColumnId(String columnId) {
+        this.columnId = columnId;
+    }
+    
+    public Integer getIndex() {
+        return index;
+    }
+    
+    public void setIndex(Integer index) {
+        this.index = index;
+    }
+    
+    public String getAfterId() {
+        return afterId;
+    }
+    
+    public void setAfterId(String afterId) {
+        this.afterId = afterId;
+    }
+    
+    public String getBeforeId() {
+        return beforeId;
+    }
+    
+    public void setBeforeId(String beforeId) {
+        this.beforeId = beforeId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskflow.backend.dto;
+
+import com.taskflow.backend.model.Task;
+
+import java.util.List;
+
+public class TaskPage {
+    private List<Task> items;
+    private String nextCursor; // null when there are no more results
+    
+    // Constructors
+    public TaskPage() {}
+    
+    public TaskPage(List<Task> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+    
+    // Getters and Setters
+    public List<Task> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<Task> items) {
+        this.items = items;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskflow.backend.dto;
+
+import com.taskflow.backend.model.Task;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Filters of GET /tasks, bound from query parameters; see TaskQueryGuard for
+// the combinations that are accepted
+public class TaskQuery {
+    private String boardId;
+    private String columnId;
+    private String assigneeId; // "me" for the current user
+    private List<Task.TaskStatus> status; // any of
+    private List<Task.TaskPriority> priority; // any of
+    private String label; // label name
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueBefore; // exclusive
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueAfter; // inclusive
+    
+    private boolean overdue; // due before now and not DONE
+    private String sort; // dueDate (default) or createdAt, prefixed with "-" for descending
+    
+    // Getters and Setters
+    public String getBoardId() {
+        return boardId;
+    }
+    
+    public void setBoardId(String boardId) {
+        this.boardId = boardId;
+    }
+    
+    public String getColumnId() {
+        return columnId;
+    }
+    
+    public void setColumnId(String columnId) {
+        this.columnId = columnId;
+    }
+    
+    public String getAssigneeId() {
+        return assigneeId;
+    }
+    
+    public void setAssigneeId(String assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+    
+    public List<Task.TaskStatus> getStatus() {
+        return status;
+    }
+    
+    public void setStatus(List<Task.TaskStatus> status) {
+        this.status = status;
+    }
+    
+    public List<Task.TaskPriority> getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(List<Task.TaskPriority> priority) {
+        this.priority = priority;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+    
+    public void setLabel(String label) {
+        this.label = label;
+    }
+    
+    public LocalDateTime getDueBefore() {
+        return dueBefore;
+    }
+    
+    public void setDueBefore(LocalDateTime dueBefore) {
+        this.dueBefore = dueBefore;
+    }
+    
+    public LocalDateTime getDueAfter() {
+        return dueAfter;
+    }
+    
+    public void setDueAfter(LocalDateTime dueAfter) {
+        this.dueAfter = dueAfter;
+    }
+    
+    public boolean isOverdue() {
+        return overdue;
+    }
+    
+    public void setOverdue(boolean overdue) {
+        this.overdue = overdue;
+    }
+    
+    public String getSort() {
+        return sort;
+    }
+    
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+}
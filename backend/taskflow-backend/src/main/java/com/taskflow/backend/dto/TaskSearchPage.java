@@ -0,0 +1,83 @@
+package com.taskflow.backend.dto;
+
+import com.taskflow.backend.model.Task;
+
+import java.util.List;
+
+public class TaskSearchPage {
+    private List<Hit> items; // best match first
+    private String nextCursor; // null when there are no more results
+    
+    // Constructors
+    public TaskSearchPage() {}
+    
+    public TaskSearchPage(List<Hit> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+    
+    // Getters and Setters
+    public List<Hit> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<Hit> items) {
+        this.items = items;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public static class Hit {
+        private Task task;
+        private int score;
+        private List<Highlight> highlights;
+        
+        // Constructors
+        public Hit() {}
+        
+        public Hit(Task task, int score, List<Highlight> highlights) {
+            this.task = task;
+            this.score = score;
+            this.highlights = highlights;
+        }
+        
+        // Getters and Setters
+        public Task getTask() { return task; }
+        public void setTask(Task task) { this.task = task; }
+        public int getScore() { return score; }
+        public void setScore(int score) { this.score = score; }
+        public List<Highlight> getHighlights() { return highlights; }
+        public void setHighlights(List<Highlight> highlights) { this.highlights = highlights; }
+    }
+    
+    // Matched words as [start, end) offsets into text, so clients can mark
+    // them up without the server emitting HTML
+    public static class Highlight {
+        private String field; // title, description, labels or checklist
+        private String text; // the field's text, or an excerpt of a long description
+        private List<int[]> matches;
+        
+        // Constructors
+        public Highlight() {}
+        
+        public Highlight(String field, String text, List<int[]> matches) {
+            this.field = field;
+            this.text = text;
+            this.matches = matches;
+        }
+        
+        // Getters and Setters
+        public String getField() { return field; }
+        public void setField(String field) { this.field = field; }
+        public String getText() { return text; }
+        public void setText(String text) { this.text = text; }
+        public List<int[]> getMatches() { return matches; }
+        public void setMatches(List<int[]> matches) { this.matches = matches; }
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskflow.backend.dto;
+
+// Fields left out of the request keep their current value
+public class UpdateChecklistItemRequest {
+    private String text;
+    
+    private Boolean completed;
+    
+    // Constructors
+    public UpdateChecklistItemRequest() {}
+    
+    public UpdateChecklistItemRequest(String text, Boolean completed) {
+        this.text = text;
+        this.completed = completed;
+    }
+    
+    // Getters and Setters
+    public String getText() {
+        return text;
+    }
+    
+    public void setText(String text) {
+        this.text = text;
+    }
+    
+    public Boolean getCompleted() {
+        return completed;
+    }
+    
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskflow.backend.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change to something on a board, published after the write succeeds and
+ * pushed to clients subscribed to that board.
+ */
+public class BoardChangeEvent {
+    
+    public enum EntityType {
+        BOARD, COLUMN, TASK, CHECKLIST_ITEM, COMMENT
+    }
+    
+    public enum Action {
+        CREATED, UPDATED, MOVED, DELETED
+    }
+    
+    private final String boardId;
+    private final EntityType entityType;
+    private final Action action;
+    private final String entityId;
+    private final String parentId; // owning task for checklist items and comments
+    private final Object data; // current state; null for deletions
+    private final LocalDateTime occurredAt;
+    
+    public BoardChangeEvent(String boardId, EntityType entityType, Action action, String entityId, String parentId, Object data) {
+        this.boardId = boardId;
+        this.entityType = entityType;
+        this.action = action;
+        this.entityId = entityId;
+        this.parentId = parentId;
+        this.data = data;
+        this.occurredAt = LocalDateTime.now();
+    }
+    
+    public BoardChangeEvent(String boardId, EntityType entityType, Action action, String entityId, Object data) {
+        this(boardId, entityType, action, entityId, null, data);
+    }
+    
+    // Getters
+    public String getBoardId() {
+        return boardId;
+    }
+    
+    public EntityType getEntityType() {
+        return entityType;
+    }
+    
+    public Action getAction() {
+        return action;
+    }
+    
+    public String getEntityId() {
+        return entityId;
+    }
+    
+    public String getParentId() {
+        return parentId;
+    }
+    
+    public Object getData() {
+        return data;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
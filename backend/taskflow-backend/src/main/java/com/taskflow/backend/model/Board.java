@@ -1,14 +1,18 @@
 package com.taskflow.backend.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+@CompoundIndex(name = "ownerId_isArchived", def = "{'ownerId': 1, 'isArchived': 1}")
 @Document(collection = "boards")
-public class Board {
+public class Board implements Versioned {
     @Id
     private String id;
     
@@ -16,9 +20,11 @@ public class Board {
     private String description;
     private String ownerId;
     private boolean isArchived = false;
-    private List<String> columnOrder;
+    private List<String> columnOrder; // Legacy; columns are ordered by their own rank
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @Version
+    private Long version;
     
     // Constructors
     public Board() {
@@ -33,6 +39,19 @@ public class Board {
         this.ownerId = ownerId;
     }
     
+    // Copy to modify, so a cached instance is never changed in place
+    public Board(Board other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.description = other.description;
+        this.ownerId = other.ownerId;
+        this.isArchived = other.isArchived;
+        this.columnOrder = other.columnOrder != null ? new ArrayList<>(other.columnOrder) : null;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.version = other.version;
+    }
+    
     // Getters and Setters
     public String getId() {
         return id;
@@ -90,6 +109,7 @@ public class Board {
         this.createdAt = createdAt;
     }
     
+    @Override
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
@@ -97,6 +117,15 @@ public class Board {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    
+    @Override
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
 
 
@@ -0,0 +1,100 @@
+package com.taskflow.backend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * One board's task counters for one day, updated with $inc as tasks move.
+ * The status and column maps hold the day's net change in the number of tasks
+ * there, so a cumulative flow diagram is a running sum over the days.
+ */
+@CompoundIndex(name = "boardId_date", def = "{'boardId': 1, 'date': 1}")
+@Document(collection = "board_daily_counters")
+public class BoardDailyCounters {
+    @Id
+    private String id; // <boardId>:<date>
+    
+    private String boardId;
+    private LocalDate date;
+    private Map<String, Long> statusDelta;
+    private Map<String, Long> columnDelta;
+    private long completed; // tasks that entered DONE
+    private Map<String, Long> cycleTimes; // completions by cycle time bucket, keyed by its upper bound in hours
+    private boolean rolledUp;
+    
+    // Constructors
+    public BoardDailyCounters() {}
+    
+    public static String idOf(String boardId, LocalDate date) {
+        return boardId + ":" + date;
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getBoardId() {
+        return boardId;
+    }
+    
+    public void setBoardId(String boardId) {
+        this.boardId = boardId;
+    }
+    
+    public LocalDate getDate() {
+        return date;
+    }
+    
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+    
+    public Map<String, Long> getStatusDelta() {
+        return statusDelta;
+    }
+    
+    public void setStatusDelta(Map<String, Long> statusDelta) {
+        this.statusDelta = statusDelta;
+    }
+    
+    public Map<String, Long> getColumnDelta() {
+        return columnDelta;
+    }
+    
+    public void setColumnDelta(Map<String, Long> columnDelta) {
+        this.columnDelta = columnDelta;
+    }
+    
+    public long getCompleted() {
+        return completed;
+    }
+    
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+    
+    public Map<String, Long> getCycleTimes() {
+        return cycleTimes;
+    }
+    
+    public void setCycleTimes(Map<String, Long> cycleTimes) {
+        this.cycleTimes = cycleTimes;
+    }
+    
+    public boolean isRolledUp() {
+        return rolledUp;
+    }
+    
+    public void setRolledUp(boolean rolledUp) {
+        this.rolledUp = rolledUp;
+    }
+}
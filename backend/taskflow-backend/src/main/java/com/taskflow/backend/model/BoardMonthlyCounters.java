@@ -0,0 +1,74 @@
+package com.taskflow.backend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+
+/**
+ * The sum of one board's daily status and column changes over a month, kept
+ * next to the {@link BoardDailyCounters} with the same $inc. The flow at the
+ * start of a range is then summed per month instead of per day.
+ */
+@CompoundIndex(name = "boardId_month", def = "{'boardId': 1, 'month': 1}")
+@Document(collection = "board_monthly_counters")
+public class BoardMonthlyCounters {
+    @Id
+    private String id; // <boardId>:<yyyy-MM>
+    
+    private String boardId;
+    private LocalDate month; // its first day
+    private Map<String, Long> statusDelta;
+    private Map<String, Long> columnDelta;
+    
+    // Constructors
+    public BoardMonthlyCounters() {}
+    
+    public static String idOf(String boardId, LocalDate month) {
+        return boardId + ":" + YearMonth.from(month);
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getBoardId() {
+        return boardId;
+    }
+    
+    public void setBoardId(String boardId) {
+        this.boardId = boardId;
+    }
+    
+    public LocalDate getMonth() {
+        return month;
+    }
+    
+    public void setMonth(LocalDate month) {
+        this.month = month;
+    }
+    
+    public Map<String, Long> getStatusDelta() {
+        return statusDelta;
+    }
+    
+    public void setStatusDelta(Map<String, Long> statusDelta) {
+        this.statusDelta = statusDelta;
+    }
+    
+    public Map<String, Long> getColumnDelta() {
+        return columnDelta;
+    }
+    
+    public void setColumnDelta(Map<String, Long> columnDelta) {
+        this.columnDelta = columnDelta;
+    }
+}
@@ -1,24 +1,31 @@
 package com.taskflow.backend.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+@CompoundIndex(name = "boardId_rank", def = "{'boardId': 1, 'rank': 1, '_id': 1}")
 @Document(collection = "columns")
-public class Column {
+public class Column implements Ranked, Versioned {
     @Id
     private String id;
     
     private String title;
     private String boardId;
-    private List<String> taskIds;
-    private int position;
+    private String rank; // Position on the board, see RankKey
+    private List<String> taskIds; // Legacy; tasks are ordered by their own rank
+    private int position; // Legacy; replaced by rank
     private Integer limit; // Optional WIP limit
+    private Integer taskCount; // Tasks in the column, kept by ColumnTaskCountService outside the version
     private String color; // Optional color for the column
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @Version
+    private Long version;
     
     // Constructors
     public Column() {
@@ -58,6 +65,15 @@ public class Column {
         this.boardId = boardId;
     }
     
+    @Override
+    public String getRank() {
+        return rank;
+    }
+    
+    public void setRank(String rank) {
+        this.rank = rank;
+    }
+    
     public List<String> getTaskIds() {
         return taskIds;
     }
@@ -82,6 +98,7 @@ public class Column {
         this.createdAt = createdAt;
     }
     
+    @Override
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
@@ -98,6 +115,14 @@ public class Column {
         this.limit = limit;
     }
     
+    public Integer getTaskCount() {
+        return taskCount;
+    }
+    
+    public void setTaskCount(Integer taskCount) {
+        this.taskCount = taskCount;
+    }
+    
     public String getColor() {
         return color;
     }
@@ -105,4 +130,13 @@ public class Column {
     public void setColor(String color) {
         this.color = color;
     }
+    
+    @Override
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,38 @@
+package com.taskflow.backend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks a one-off startup backfill as finished, so it is not repeated on
+ * every boot. The id is the backfill's name.
+ */
+@Document(collection = "backfills")
+public class CompletedBackfill {
+    @Id
+    private String id;
+    
+    private LocalDateTime completedAt;
+    
+    // Constructors
+    public CompletedBackfill() {}
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+    
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.taskflow.backend.model;
+
+/**
+ * A document kept in manual order within its parent by a rank key (see
+ * RankKey): tasks within a column, columns within a board.
+ */
+public interface Ranked {
+    String getId();
+    String getRank();
+}
@@ -1,13 +1,35 @@
 package com.taskflow.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+// Board and column listings filter on one id and page in (createdAt, _id) order;
+// search looks up grams within a board. The *_dueDate indexes are the filter
+// combinations GET /tasks accepts (see TaskQueryGuard): equality keys, then the
+// sort key and _id
+@CompoundIndexes({
+    @CompoundIndex(name = "boardId_createdAt", def = "{'boardId': 1, 'createdAt': 1, '_id': 1}"),
+    @CompoundIndex(name = "columnId_createdAt", def = "{'columnId': 1, 'createdAt': 1, '_id': 1}"),
+    @CompoundIndex(name = "columnId_rank", def = "{'columnId': 1, 'rank': 1, '_id': 1}"),
+    @CompoundIndex(name = "boardId_searchGrams", def = "{'boardId': 1, 'searchGrams': 1}"),
+    @CompoundIndex(name = "boardId_dueDate", def = "{'boardId': 1, 'dueDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "boardId_assigneeId_dueDate", def = "{'boardId': 1, 'assigneeId': 1, 'dueDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "boardId_assigneeId_priority_dueDate",
+            def = "{'boardId': 1, 'assigneeId': 1, 'priority': 1, 'dueDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "boardId_priority_dueDate", def = "{'boardId': 1, 'priority': 1, 'dueDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "boardId_status_dueDate", def = "{'boardId': 1, 'status': 1, 'dueDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "boardId_labels_dueDate", def = "{'boardId': 1, 'labels.name': 1, 'dueDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "assigneeId_dueDate", def = "{'assigneeId': 1, 'dueDate': 1, '_id': 1}")
+})
 @Document(collection = "tasks")
-public class Task {
+public class Task implements Ranked, Versioned {
     @Id
     private String id;
     
@@ -15,16 +37,21 @@ public class Task {
     private String description;
     private String columnId;
     private String boardId;
+    private String rank; // Position within the column, see RankKey
     private String assigneeId;
     private TaskPriority priority;
     private TaskStatus status;
     private LocalDateTime dueDate;
     private List<TaskLabel> labels;
     private List<ChecklistItem> checklist;
-    private List<TaskComment> comments;
+    private List<TaskComment> comments; // Legacy; comments are stored in the comments collection
     private List<String> attachments;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @JsonIgnore
+    private List<String> searchGrams; // Derived from the text fields on save, see TaskSearchIndexer
+    @Version
+    private Long version;
     
     // Enums
     public enum TaskPriority {
@@ -159,6 +186,15 @@ public class Task {
         this.columnId = columnId;
     }
     
+    @Override
+    public String getRank() {
+        return rank;
+    }
+    
+    public void setRank(String rank) {
+        this.rank = rank;
+    }
+    
     public String getBoardId() {
         return boardId;
     }
@@ -239,6 +275,7 @@ public class Task {
         this.createdAt = createdAt;
     }
     
+    @Override
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
@@ -246,4 +283,21 @@ public class Task {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    
+    public List<String> getSearchGrams() {
+        return searchGrams;
+    }
+    
+    public void setSearchGrams(List<String> searchGrams) {
+        this.searchGrams = searchGrams;
+    }
+    
+    @Override
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
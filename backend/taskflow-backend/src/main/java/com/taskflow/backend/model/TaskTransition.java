@@ -0,0 +1,107 @@
+package com.taskflow.backend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only log of a task entering a column or status. A task's first entry
+ * records where it started and has the id {@code <taskId>:created}, so it is
+ * written once however many paths try; a deletion has no target.
+ */
+@CompoundIndex(name = "taskId_occurredAt", def = "{'taskId': 1, 'occurredAt': 1}")
+@Document(collection = "task_transitions")
+public class TaskTransition {
+    @Id
+    private String id;
+    
+    private String taskId;
+    @Indexed(name = "boardId_1")
+    private String boardId;
+    private String fromColumnId;
+    private String toColumnId;
+    private Task.TaskStatus fromStatus;
+    private Task.TaskStatus toStatus;
+    private LocalDateTime occurredAt;
+    
+    // Constructors
+    public TaskTransition() {}
+    
+    public TaskTransition(String taskId, String boardId, LocalDateTime occurredAt) {
+        this.taskId = taskId;
+        this.boardId = boardId;
+        this.occurredAt = occurredAt;
+    }
+    
+    public static String createdId(String taskId) {
+        return taskId + ":created";
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getTaskId() {
+        return taskId;
+    }
+    
+    public void setTaskId(String taskId) {
+        this.taskId = taskId;
+    }
+    
+    public String getBoardId() {
+        return boardId;
+    }
+    
+    public void setBoardId(String boardId) {
+        this.boardId = boardId;
+    }
+    
+    public String getFromColumnId() {
+        return fromColumnId;
+    }
+    
+    public void setFromColumnId(String fromColumnId) {
+        this.fromColumnId = fromColumnId;
+    }
+    
+    public String getToColumnId() {
+        return toColumnId;
+    }
+    
+    public void setToColumnId(String toColumnId) {
+        this.toColumnId = toColumnId;
+    }
+    
+    public Task.TaskStatus getFromStatus() {
+        return fromStatus;
+    }
+    
+    public void setFromStatus(Task.TaskStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+    
+    public Task.TaskStatus getToStatus() {
+        return toStatus;
+    }
+    
+    public void setToStatus(Task.TaskStatus toStatus) {
+        this.toStatus = toStatus;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
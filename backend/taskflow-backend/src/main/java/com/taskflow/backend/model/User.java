@@ -12,7 +12,7 @@ public class User {
     @Id
     private String id;
     
-    @Indexed(unique = true)
+    @Indexed(name = "email_1", unique = true)
     private String email;
     
     private String name;
@@ -35,6 +35,18 @@ public class User {
         this.password = password;
     }
     
+    // Copy to modify, so a cached instance is never changed in place
+    public User(User other) {
+        this.id = other.id;
+        this.email = other.email;
+        this.name = other.name;
+        this.password = other.password;
+        this.avatar = other.avatar;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.enabled = other.enabled;
+    }
+    
     // Getters and Setters
     public String getId() {
         return id;
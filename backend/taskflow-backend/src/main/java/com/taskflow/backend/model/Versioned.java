@@ -0,0 +1,24 @@
+package com.taskflow.backend.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A document written under optimistic locking: every write increments its
+ * version, which also identifies the representation in ETags.
+ */
+public interface Versioned extends Persistable<String> {
+    Long getVersion();
+    LocalDateTime getUpdatedAt();
+
+    // Documents from before versioning have no version yet. Deciding by the id
+    // turns saving one into an update conditional on the missing version,
+    // instead of an insert that fails on the existing id.
+    @Override
+    @JsonIgnore
+    default boolean isNew() {
+        return getId() == null;
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskflow.backend.monitoring;
+
+import org.bson.Document;
+
+import java.util.List;
+
+/**
+ * Reads the winning plan out of an {@code explain} result.
+ */
+public final class QueryPlans {
+    
+    private QueryPlans() {
+    }
+    
+    /**
+     * The winning plan of an explain result, or null if it has none. The plan
+     * sits at different depths for finds and aggregations, and under
+     * {@code queryPlan} when the slot-based engine is used.
+     */
+    public static Document winningPlan(Object explainResult) {
+        if (explainResult instanceof Document document) {
+            Object plan = document.get("winningPlan");
+            if (plan instanceof Document winningPlan) {
+                return winningPlan.get("queryPlan") instanceof Document queryPlan ? queryPlan : winningPlan;
+            }
+            for (Object child : document.values()) {
+                Document found = winningPlan(child);
+                if (found != null) {
+                    return found;
+                }
+            }
+        } else if (explainResult instanceof List<?> list) {
+            for (Object child : list) {
+                Document found = winningPlan(child);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * One-line summary of a plan: "FETCH > IXSCAN(boardId_1)", "COLLSCAN",
+     * "OR > [IXSCAN(a_1), IXSCAN(b_1)]".
+     */
+    public static String describe(Document stage) {
+        StringBuilder description = new StringBuilder(stage.getString("stage"));
+        if (stage.getString("indexName") != null) {
+            description.append('(').append(stage.getString("indexName")).append(')');
+        }
+        if (stage.get("inputStage") instanceof Document input) {
+            description.append(" > ").append(describe(input));
+        } else if (stage.get("inputStages") instanceof List<?> inputs) {
+            description.append(" > [");
+            for (int i = 0; i < inputs.size(); i++) {
+                if (i > 0) {
+                    description.append(", ");
+                }
+                description.append(describe((Document) inputs.get(i)));
+            }
+            description.append(']');
+        }
+        return description.toString();
+    }
+    
+    /**
+     * Whether any stage of the plan is {@code stageName}, e.g. COLLSCAN or SORT.
+     */
+    public static boolean hasStage(Document stage, String stageName) {
+        if (stageName.equals(stage.getString("stage"))) {
+            return true;
+        }
+        if (stage.get("inputStage") instanceof Document input) {
+            return hasStage(input, stageName);
+        }
+        if (stage.get("inputStages") instanceof List<?> inputs) {
+            return inputs.stream().anyMatch(input -> hasStage((Document) input, stageName));
+        }
+        return false;
+    }
+}
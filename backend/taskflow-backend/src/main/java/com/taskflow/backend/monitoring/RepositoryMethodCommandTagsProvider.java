@@ -0,0 +1,37 @@
+package com.taskflow.backend.monitoring;
+
+import com.mongodb.event.CommandEvent;
+import com.mongodb.event.CommandStartedEvent;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.mongodb.DefaultMongoCommandTagsProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adds a {@code repository.method} tag to the {@code mongodb.driver.commands}
+ * timer on top of the default command, collection, cluster and status tags.
+ * Commands issued through MongoTemplate directly are tagged {@code none}.
+ */
+public class RepositoryMethodCommandTagsProvider extends DefaultMongoCommandTagsProvider {
+    
+    // Captured when the command starts; completion may be reported on another thread
+    private final Map<Integer, String> inFlightMethods = new ConcurrentHashMap<>();
+    
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        super.commandStarted(event);
+        String method = RepositoryMethodTracker.current();
+        if (!RepositoryMethodTracker.NONE.equals(method)) {
+            inFlightMethods.put(event.getRequestId(), method);
+        }
+    }
+    
+    @Override
+    public Iterable<Tag> commandTags(CommandEvent event) {
+        String method = inFlightMethods.remove(event.getRequestId());
+        return Tags.of(super.commandTags(event))
+                .and("repository.method", method != null ? method : RepositoryMethodTracker.NONE);
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskflow.backend.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.data.repository.core.support.RepositoryFactoryCustomizer;
+
+/**
+ * Remembers which repository method the current thread is executing, so Mongo
+ * commands can be attributed to it ({@code TaskRepository.findByBoardId}).
+ * Only the outermost call is recorded, and only for blocking repositories:
+ * reactive ones issue their commands later, on driver threads.
+ */
+public final class RepositoryMethodTracker {
+    
+    public static final String NONE = "none";
+    
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+    
+    private RepositoryMethodTracker() {
+    }
+    
+    public static String current() {
+        String method = CURRENT.get();
+        return method != null ? method : NONE;
+    }
+    
+    public static RepositoryFactoryCustomizer customizer() {
+        return factory -> factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> {
+            if (!repositoryInformation.isReactiveRepository()) {
+                proxyFactory.addAdvice(interceptor(repositoryInformation.getRepositoryInterface().getSimpleName()));
+            }
+        });
+    }
+    
+    private static MethodInterceptor interceptor(String repositoryName) {
+        return invocation -> {
+            if (CURRENT.get() != null) {
+                return invocation.proceed();
+            }
+            CURRENT.set(repositoryName + "." + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+}
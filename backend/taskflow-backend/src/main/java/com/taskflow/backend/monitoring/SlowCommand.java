@@ -0,0 +1,28 @@
+package com.taskflow.backend.monitoring;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A Mongo command that took longer than the slow-command threshold. The shape
+ * holds the command's filter, sort and pipeline with literal values replaced
+ * by "?". The plan fields are filled in once the query has been explained, and
+ * stay null when explain is disabled.
+ */
+public record SlowCommand(
+        Instant startedAt,
+        String database,
+        String collection,
+        String command,
+        String repositoryMethod,
+        double durationMillis,
+        boolean succeeded,
+        Map<String, Object> shape,
+        String plan,
+        Map<String, Object> winningPlan) {
+    
+    SlowCommand withPlan(String plan, Map<String, Object> winningPlan) {
+        return new SlowCommand(startedAt, database, collection, command, repositoryMethod, durationMillis,
+                succeeded, shape, plan, winningPlan);
+    }
+}
@@ -0,0 +1,253 @@
+package com.taskflow.backend.monitoring;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import jakarta.annotation.PostConstruct;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the most recent Mongo commands slower than
+ * {@code taskflow.mongodb.slow-commands.threshold} in a fixed-size ring buffer,
+ * and logs each one. The filter, sort and pipeline of every read and write are
+ * captured when the command starts, because the driver's command document is
+ * only valid during the callback. That capture is a small byte copy; it is only
+ * decoded when the command turns out to be slow.
+ *
+ * <p>With {@code explain} enabled, slow finds, counts, distincts and aggregations
+ * are re-run through {@code explain} (queryPlanner verbosity, so the query is
+ * planned but not executed) on the task executor, one at a time, to show
+ * whether they used an index or scanned the collection.
+ */
+@Component
+public class SlowCommandLog implements CommandListener {
+    
+    private static final Logger log = LoggerFactory.getLogger(SlowCommandLog.class);
+    
+    // Fields of each command that describe which documents it touches and in which order
+    private static final Map<String, List<String>> SHAPE_FIELDS = Map.of(
+            "find", List.of("filter", "sort", "limit", "hint"),
+            "count", List.of("query"),
+            "distinct", List.of("key", "query"),
+            "aggregate", List.of("pipeline"),
+            "findAndModify", List.of("query", "sort"),
+            "update", List.of("updates"),
+            "delete", List.of("deletes"));
+    private static final Set<String> FILTER_FIELDS = Set.of("filter", "query", "q", "$match");
+    private static final Set<String> EXPLAINABLE = Set.of("find", "count", "distinct", "aggregate");
+    private static final String REDACTED = "?";
+    
+    @Autowired
+    private ObjectProvider<MongoDatabaseFactory> databaseFactory;
+    
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+    
+    @Value("${taskflow.mongodb.slow-commands.threshold:PT0.1S}")
+    private Duration threshold;
+    
+    @Value("${taskflow.mongodb.slow-commands.capacity:100}")
+    private int capacity;
+    
+    @Value("${taskflow.mongodb.slow-commands.explain:false}")
+    private boolean explain;
+    
+    private final Map<Integer, StartedCommand> inFlight = new ConcurrentHashMap<>();
+    private final AtomicBoolean explaining = new AtomicBoolean();
+    
+    private SlowCommand[] entries;
+    private int next;
+    private int size;
+    
+    @PostConstruct
+    void init() {
+        entries = new SlowCommand[capacity];
+    }
+    
+    /**
+     * The recorded slow commands, newest first.
+     */
+    public synchronized List<SlowCommand> recent() {
+        List<SlowCommand> recent = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            recent.add(entries[Math.floorMod(next - i, entries.length)]);
+        }
+        return recent;
+    }
+    
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String command = event.getCommandName();
+        if ("explain".equals(command)) {
+            // Our own plan captures
+            return;
+        }
+        BsonDocument document = event.getCommand();
+        BsonValue target = document.get(command);
+        String collection = target != null && target.isString() ? target.asString().getValue() : null;
+        
+        RawBsonDocument shape = null;
+        List<String> fields = SHAPE_FIELDS.get(command);
+        if (fields != null) {
+            BsonDocument captured = new BsonDocument();
+            for (String field : fields) {
+                BsonValue value = document.get(field);
+                if (value != null) {
+                    captured.put(field, firstStatementFilter(field, value));
+                }
+            }
+            shape = new RawBsonDocument(captured, new BsonDocumentCodec());
+        }
+        inFlight.put(event.getRequestId(), new StartedCommand(event.getDatabaseName(), collection, command,
+                RepositoryMethodTracker.current(), shape));
+    }
+    
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        completed(event.getRequestId(), event.getElapsedTime(TimeUnit.NANOSECONDS), true);
+    }
+    
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        completed(event.getRequestId(), event.getElapsedTime(TimeUnit.NANOSECONDS), false);
+    }
+    
+    private void completed(int requestId, long elapsedNanos, boolean succeeded) {
+        StartedCommand started = inFlight.remove(requestId);
+        if (started == null || elapsedNanos < threshold.toNanos()) {
+            return;
+        }
+        Map<String, Object> shape = started.shape() != null
+                ? redactDocument(started.shape(), false)
+                : Map.of();
+        SlowCommand slowCommand = new SlowCommand(Instant.now().minusNanos(elapsedNanos), started.database(),
+                started.collection(), started.command(), started.repositoryMethod(), elapsedNanos / 1_000_000.0,
+                succeeded, shape, null, null);
+        log.warn("Slow Mongo {} on {} from {} took {} ms: {}", started.command(), started.collection(),
+                started.repositoryMethod(), Math.round(slowCommand.durationMillis()), shape);
+        add(slowCommand);
+        
+        if (explain && succeeded && EXPLAINABLE.contains(started.command())
+                && explaining.compareAndSet(false, true)) {
+            try {
+                taskExecutor.execute(() -> explain(slowCommand, started));
+            } catch (RuntimeException e) {
+                explaining.set(false);
+            }
+        }
+    }
+    
+    private synchronized void add(SlowCommand slowCommand) {
+        entries[next] = slowCommand;
+        next = (next + 1) % entries.length;
+        size = Math.min(size + 1, entries.length);
+    }
+    
+    private synchronized void replace(SlowCommand original, SlowCommand replacement) {
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] == original) {
+                entries[i] = replacement;
+                return;
+            }
+        }
+    }
+    
+    private void explain(SlowCommand slowCommand, StartedCommand started) {
+        try {
+            Document command = new Document(started.command(), started.collection());
+            command.putAll(new DocumentCodec().decode(started.shape().asBsonReader(), DecoderContext.builder().build()));
+            if ("aggregate".equals(started.command())) {
+                command.append("cursor", new Document());
+            }
+            Document result = databaseFactory.getObject().getMongoDatabase(started.database())
+                    .runCommand(new Document("explain", command).append("verbosity", "queryPlanner"));
+            Document winningPlan = QueryPlans.winningPlan(result);
+            if (winningPlan != null) {
+                replace(slowCommand, slowCommand.withPlan(QueryPlans.describe(winningPlan), winningPlan));
+            }
+        } catch (RuntimeException e) {
+            log.debug("Could not explain slow {} on {}", started.command(), started.collection(), e);
+        } finally {
+            explaining.set(false);
+        }
+    }
+    
+    // Only the first statement of a bulk update or delete is kept; it is enough to see the filter shape
+    private static BsonValue firstStatementFilter(String field, BsonValue value) {
+        if (("updates".equals(field) || "deletes".equals(field)) && value.isArray()) {
+            BsonArray statements = value.asArray();
+            if (!statements.isEmpty() && statements.get(0).isDocument()) {
+                BsonValue filter = statements.get(0).asDocument().get("q");
+                return new BsonDocument("q", filter != null ? filter : new BsonDocument())
+                        .append("statements", new BsonInt32(statements.size()));
+            }
+        }
+        return value;
+    }
+    
+    private static Map<String, Object> redactDocument(BsonDocument document, boolean inFilter) {
+        Map<String, Object> redacted = new LinkedHashMap<>();
+        document.forEach((key, value) -> redacted.put(key, redact(value, inFilter || FILTER_FIELDS.contains(key))));
+        return redacted;
+    }
+    
+    private static Object redact(BsonValue value, boolean inFilter) {
+        if (value.isDocument()) {
+            return redactDocument(value.asDocument(), inFilter);
+        }
+        if (value.isArray()) {
+            // Lists of conditions ($and, $or, pipelines) keep their structure; $in values do not
+            if (inFilter && value.asArray().stream().noneMatch(BsonValue::isDocument)) {
+                return REDACTED;
+            }
+            return value.asArray().stream().map(element -> redact(element, inFilter)).toList();
+        }
+        if (inFilter) {
+            return REDACTED;
+        }
+        if (value.isNumber()) {
+            return value.asNumber().longValue();
+        }
+        if (value.isString()) {
+            return value.asString().getValue();
+        }
+        if (value.isBoolean()) {
+            return value.asBoolean().getValue();
+        }
+        return value.getBsonType().name();
+    }
+    
+    private record StartedCommand(String database, String collection, String command, String repositoryMethod,
+                                  RawBsonDocument shape) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskflow.backend.monitoring;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// GET /actuator/slowqueries
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueriesEndpoint {
+    
+    @Autowired
+    private SlowCommandLog slowCommandLog;
+    
+    @ReadOperation
+    public List<SlowCommand> slowQueries() {
+        return slowCommandLog.recent();
+    }
+}
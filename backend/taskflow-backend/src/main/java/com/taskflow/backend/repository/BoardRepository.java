@@ -1,16 +1,28 @@
 package com.taskflow.backend.repository;
 
+import com.taskflow.backend.config.CacheConfig;
 import com.taskflow.backend.model.Board;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BoardRepository extends MongoRepository<Board, String> {
     List<Board> findByOwnerIdAndIsArchivedFalse(String ownerId);
     List<Board> findByOwnerId(String ownerId);
+    
+    // Invalidated by BoardCacheInvalidator once a change is committed
+    @Override
+    @Cacheable(cacheNames = CacheConfig.BOARDS, unless = "#result == null")
+    Optional<Board> findById(String id);
+    
+    // Update endpoints modify a copy of the instance they looked up; the cached
+    // one is dropped before writing, and stays dropped if the save fails
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.BOARDS, key = "#p0.id", condition = "#p0.id != null", beforeInvocation = true)
+    <S extends Board> S save(S board);
 }
-
-
-
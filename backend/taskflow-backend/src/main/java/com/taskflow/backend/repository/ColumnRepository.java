@@ -1,6 +1,8 @@
 package com.taskflow.backend.repository;
 
+import com.taskflow.backend.config.CacheConfig;
 import com.taskflow.backend.model.Column;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,9 +10,8 @@ import java.util.List;
 
 @Repository
 public interface ColumnRepository extends MongoRepository<Column, String> {
-    List<Column> findByBoardIdOrderByPosition(String boardId);
+    // Invalidated by BoardCacheInvalidator once a change is committed
+    @Cacheable(CacheConfig.BOARD_COLUMNS)
+    List<Column> findByBoardIdOrderByRank(String boardId);
     List<Column> findByBoardId(String boardId);
 }
-
-
-
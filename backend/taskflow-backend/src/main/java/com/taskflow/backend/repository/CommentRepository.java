@@ -0,0 +1,9 @@
+package com.taskflow.backend.repository;
+
+import com.taskflow.backend.model.Comment;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CommentRepository extends MongoRepository<Comment, String> {
+}
@@ -0,0 +1,9 @@
+package com.taskflow.backend.repository;
+
+import com.taskflow.backend.model.Board;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveBoardRepository extends ReactiveMongoRepository<Board, String> {
+}
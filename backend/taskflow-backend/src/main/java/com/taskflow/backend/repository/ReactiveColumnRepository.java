@@ -0,0 +1,11 @@
+package com.taskflow.backend.repository;
+
+import com.taskflow.backend.model.Column;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactiveColumnRepository extends ReactiveMongoRepository<Column, String> {
+    Flux<Column> findByBoardIdOrderByRank(String boardId);
+}
@@ -0,0 +1,12 @@
+package com.taskflow.backend.repository;
+
+import com.taskflow.backend.model.Task;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactiveTaskRepository extends ReactiveMongoRepository<Task, String> {
+    Flux<Task> findByBoardIdOrderByCreatedAt(String boardId);
+    Flux<Task> findByColumnIdOrderByRank(String columnId);
+}
@@ -9,7 +9,6 @@ import java.util.List;
 @Repository
 public interface TaskRepository extends MongoRepository<Task, String> {
     List<Task> findByBoardId(String boardId);
-    List<Task> findByColumnId(String columnId);
     List<Task> findByAssigneeId(String assigneeId);
 }
 
@@ -1,6 +1,9 @@
 package com.taskflow.backend.repository;
 
+import com.taskflow.backend.config.CacheConfig;
 import com.taskflow.backend.model.User;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,9 +11,11 @@ import java.util.Optional;
 
 @Repository
 public interface UserRepository extends MongoRepository<User, String> {
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_EMAIL, unless = "#result == null")
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+    
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#p0.email", condition = "#p0.email != null")
+    <S extends User> S save(S user);
 }
-
-
-
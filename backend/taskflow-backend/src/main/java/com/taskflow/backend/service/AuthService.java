@@ -3,27 +3,40 @@ package com.taskflow.backend.service;
 import com.taskflow.backend.dto.AuthResponse;
 import com.taskflow.backend.dto.LoginRequest;
 import com.taskflow.backend.dto.RegisterRequest;
+import com.taskflow.backend.exception.ServiceUnavailableException;
 import com.taskflow.backend.model.User;
 import com.taskflow.backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class AuthService {
     
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+    
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+    
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
     
     @Autowired
     private JwtService jwtService;
     
-    public AuthResponse login(LoginRequest loginRequest) {
+    // Password checks and hashing run on the bounded hashing pool, so the
+    // request thread is released while BCrypt works
+    public CompletableFuture<AuthResponse> login(LoginRequest loginRequest) {
         Optional<User> userOpt = userRepository.findByEmail(loginRequest.getEmail());
         
         if (userOpt.isEmpty()) {
@@ -32,15 +45,62 @@ public class AuthService {
         
         User user = userOpt.get();
         
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
-            throw new RuntimeException("Invalid email or password");
+        return passwordHashingService.matches(loginRequest.getPassword(), user.getPassword())
+                .thenApply(matches -> {
+                    if (!matches) {
+                        throw new RuntimeException("Invalid email or password");
+                    }
+                    
+                    if (!user.isEnabled()) {
+                        throw new RuntimeException("Account is disabled");
+                    }
+                    
+                    if (passwordHashingService.needsRehash(user.getPassword())) {
+                        rehash(user, loginRequest.getPassword());
+                    }
+                    
+                    return toResponse(user);
+                });
+    }
+    
+    public CompletableFuture<AuthResponse> register(RegisterRequest registerRequest) {
+        if (userRepository.existsByEmail(registerRequest.getEmail())) {
+            throw new RuntimeException("Email already exists");
         }
         
-        if (!user.isEnabled()) {
-            throw new RuntimeException("Account is disabled");
+        return passwordHashingService.encode(registerRequest.getPassword())
+                .thenApplyAsync(encodedPassword -> {
+                    User user = new User();
+                    user.setEmail(registerRequest.getEmail());
+                    user.setName(registerRequest.getName());
+                    user.setPassword(encodedPassword);
+                    
+                    User savedUser = userRepository.save(user);
+                    return toResponse(savedUser);
+                }, taskExecutor);
+    }
+    
+    // The work factor was raised since this password was hashed. Upgrading is
+    // best effort and does not hold up the login; it is retried next time.
+    private void rehash(User user, String rawPassword) {
+        try {
+            passwordHashingService.encode(rawPassword)
+                    .thenAcceptAsync(encodedPassword -> {
+                        User rehashed = new User(user); // the looked-up one may be cached
+                        rehashed.setPassword(encodedPassword);
+                        userRepository.save(rehashed);
+                    }, taskExecutor)
+                    .exceptionally(e -> {
+                        log.warn("Failed to rehash password for user {}", user.getId(), e);
+                        return null;
+                    });
+        } catch (ServiceUnavailableException e) {
+            log.debug("Hashing pool busy, skipping password rehash for user {}", user.getId());
         }
-        
-        String token = jwtService.generateToken(user.getEmail());
+    }
+    
+    private AuthResponse toResponse(User user) {
+        String token = jwtService.generateToken(user);
         
         AuthResponse.UserDto userDto = new AuthResponse.UserDto(
                 user.getId(),
@@ -52,30 +112,6 @@ public class AuthService {
         return new AuthResponse(token, userDto);
     }
     
-    public AuthResponse register(RegisterRequest registerRequest) {
-        if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            throw new RuntimeException("Email already exists");
-        }
-        
-        User user = new User();
-        user.setEmail(registerRequest.getEmail());
-        user.setName(registerRequest.getName());
-        user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
-        
-        User savedUser = userRepository.save(user);
-        
-        String token = jwtService.generateToken(savedUser.getEmail());
-        
-        AuthResponse.UserDto userDto = new AuthResponse.UserDto(
-                savedUser.getId(),
-                savedUser.getEmail(),
-                savedUser.getName(),
-                savedUser.getAvatar()
-        );
-        
-        return new AuthResponse(token, userDto);
-    }
-    
     public User getUserByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -0,0 +1,35 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.model.CompletedBackfill;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Remembers which startup backfills have run to the end, so they scan their
+ * collections once instead of on every boot.
+ */
+@Service
+public class BackfillTracker {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    public boolean isDone(String name) {
+        return mongoTemplate.exists(byName(name), CompletedBackfill.class);
+    }
+
+    public void markDone(String name) {
+        mongoTemplate.upsert(byName(name), new Update().setOnInsert("completedAt", LocalDateTime.now()),
+                CompletedBackfill.class);
+    }
+
+    private static Query byName(String name) {
+        return Query.query(Criteria.where("_id").is(name));
+    }
+}
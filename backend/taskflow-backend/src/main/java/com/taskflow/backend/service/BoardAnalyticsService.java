@@ -0,0 +1,443 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.dto.BoardAnalytics;
+import com.taskflow.backend.exception.BadRequestException;
+import com.taskflow.backend.model.Board;
+import com.taskflow.backend.model.BoardDailyCounters;
+import com.taskflow.backend.model.BoardMonthlyCounters;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskTransition;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Board analytics from per-day counters. Every change of a task's column or
+ * status is appended to the transition log and applied to the counters of the
+ * day it happened with a single upsert, and its flow part to the month's
+ * rollup. Reading analytics touches one document per month before the range
+ * and one per day from the start of its first month, instead of the tasks.
+ *
+ * <p>A task is counted once, from the day it was created: new tasks when they
+ * are created, older ones on their first change or by the backfill at startup.
+ * The fixed id of the log's creation entry keeps that to exactly once.
+ */
+@Service
+public class BoardAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardAnalyticsService.class);
+
+    public static final int DEFAULT_DAYS = 30;
+    public static final int MAX_DAYS = 366;
+
+    // Upper bounds in hours of the cycle time histogram buckets
+    static final long[] CYCLE_TIME_BUCKETS = {1, 4, 8, 24, 48, 72, 120, 168, 240, 336, 504, 720, 1440, 2160};
+    static final String OVERFLOW_BUCKET = "more";
+
+    private static final int BATCH_SIZE = 500;
+
+    static final String TASK_BACKFILL = "analytics-tasks";
+    static final String ROLLUP_BACKFILL = "analytics-monthly-rollups";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private BackfillTracker backfillTracker;
+
+    // Until the days from before the rollups are in them, ranges are read from
+    // the board's first day
+    private volatile boolean rollupsReady;
+
+    public void recordCreated(Task task) {
+        count(task.getId(), task.getBoardId(), task.getColumnId(), task.getStatus(), task.getCreatedAt());
+    }
+
+    /**
+     * Records that {@code task}, in its current state, came from the given
+     * column and status. Nothing is written when neither changed.
+     */
+    public void recordTransition(Task task, String fromColumnId, Task.TaskStatus fromStatus) {
+        boolean columnChanged = !Objects.equals(fromColumnId, task.getColumnId());
+        boolean statusChanged = fromStatus != task.getStatus();
+        if (task.getBoardId() == null || (!columnChanged && !statusChanged)) {
+            return;
+        }
+        count(task.getId(), task.getBoardId(), fromColumnId, fromStatus, task.getCreatedAt());
+
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update();
+        if (columnChanged) {
+            inc(update, "columnDelta", fromColumnId, -1);
+            inc(update, "columnDelta", task.getColumnId(), 1);
+        }
+        if (statusChanged) {
+            inc(update, "statusDelta", fromStatus, -1);
+            inc(update, "statusDelta", task.getStatus(), 1);
+            if (task.getStatus() == Task.TaskStatus.DONE) {
+                // Looked up before this transition is logged
+                update.inc("completed", 1).inc("cycleTimes." + bucket(cycleTime(task, now)), 1);
+            }
+        }
+        TaskTransition transition = new TaskTransition(task.getId(), task.getBoardId(), now);
+        transition.setFromColumnId(fromColumnId);
+        transition.setToColumnId(task.getColumnId());
+        transition.setFromStatus(fromStatus);
+        transition.setToStatus(task.getStatus());
+        mongoTemplate.insert(transition);
+        apply(task.getBoardId(), now.toLocalDate(), update);
+    }
+
+    public void recordDeleted(Task task) {
+        recordDeleted(List.of(task));
+    }
+
+    /**
+     * Records the deletion of many tasks at once, as deleting a column does: per
+     * batch one lookup of which tasks are counted already and one insert of
+     * their log entries, then one counter upsert per board.
+     */
+    public void recordDeleted(List<Task> tasks) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Map<String, Long>> deltas = new HashMap<>();
+        List<Task> onBoards = tasks.stream().filter(task -> task.getBoardId() != null).toList();
+        for (int start = 0; start < onBoards.size(); start += BATCH_SIZE) {
+            List<Task> batch = onBoards.subList(start, Math.min(start + BATCH_SIZE, onBoards.size()));
+            countUncounted(batch);
+
+            List<TaskTransition> transitions = new ArrayList<>(batch.size());
+            for (Task task : batch) {
+                TaskTransition transition = new TaskTransition(task.getId(), task.getBoardId(), now);
+                transition.setFromColumnId(task.getColumnId());
+                transition.setFromStatus(task.getStatus());
+                transitions.add(transition);
+
+                Map<String, Long> boardDeltas = deltas.computeIfAbsent(task.getBoardId(), key -> new HashMap<>());
+                if (task.getColumnId() != null) {
+                    boardDeltas.merge("columnDelta." + task.getColumnId(), -1L, Long::sum);
+                }
+                if (task.getStatus() != null) {
+                    boardDeltas.merge("statusDelta." + task.getStatus(), -1L, Long::sum);
+                }
+            }
+            mongoTemplate.insertAll(transitions);
+        }
+        deltas.forEach((boardId, boardDeltas) -> {
+            Update update = new Update();
+            boardDeltas.forEach(update::inc);
+            apply(boardId, now.toLocalDate(), update);
+        });
+    }
+
+    public void deleteBoard(String boardId) {
+        mongoTemplate.remove(Query.query(Criteria.where("boardId").is(boardId)), BoardDailyCounters.class);
+        mongoTemplate.remove(Query.query(Criteria.where("boardId").is(boardId)), BoardMonthlyCounters.class);
+        mongoTemplate.remove(Query.query(Criteria.where("boardId").is(boardId)), TaskTransition.class);
+    }
+
+    /**
+     * Cumulative flow, throughput and cycle time for the days from {@code from}
+     * to {@code to}, by default the last {@value #DEFAULT_DAYS} days. The flow
+     * at a day is the sum of every change before it: the months before the
+     * range come from their rollups, the rest from the daily counters.
+     */
+    public Optional<BoardAnalytics> getAnalytics(String boardId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new BadRequestException("from must not be after to, and the range at most " + MAX_DAYS + " days");
+        }
+        if (!mongoTemplate.exists(Query.query(Criteria.where("_id").is(boardId)), Board.class)) {
+            return Optional.empty();
+        }
+
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            statuses.put(status.name(), 0L);
+        }
+        Map<String, Long> columns = new TreeMap<>();
+
+        Criteria daily = Criteria.where("boardId").is(boardId);
+        if (rollupsReady()) {
+            LocalDate firstMonth = start.withDayOfMonth(1);
+            Query months = Query.query(Criteria.where("boardId").is(boardId).and("month").lt(firstMonth));
+            for (BoardMonthlyCounters month : mongoTemplate.find(months, BoardMonthlyCounters.class)) {
+                add(statuses, month.getStatusDelta());
+                add(columns, month.getColumnDelta());
+            }
+            daily = daily.and("date").gte(firstMonth).lte(end);
+        } else {
+            daily = daily.and("date").lte(end);
+        }
+        Iterator<BoardDailyCounters> counters = mongoTemplate
+                .find(Query.query(daily).with(Sort.by("date")), BoardDailyCounters.class).iterator();
+        BoardDailyCounters next = counters.hasNext() ? counters.next() : null;
+
+        Map<String, Long> cycleTimes = new HashMap<>();
+        long completed = 0;
+        List<BoardAnalytics.Day> days = new ArrayList<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            long completedThatDay = 0;
+            while (next != null && !next.getDate().isAfter(day)) {
+                add(statuses, next.getStatusDelta());
+                add(columns, next.getColumnDelta());
+                if (!next.getDate().isBefore(start)) {
+                    completedThatDay += next.getCompleted();
+                    add(cycleTimes, next.getCycleTimes());
+                }
+                next = counters.hasNext() ? counters.next() : null;
+            }
+            columns.values().removeIf(count -> count == 0); // deleted or emptied columns
+            completed += completedThatDay;
+            days.add(new BoardAnalytics.Day(day, new LinkedHashMap<>(statuses), new LinkedHashMap<>(columns),
+                    completedThatDay));
+        }
+        return Optional.of(new BoardAnalytics(start, end, days, completed, percentiles(cycleTimes)));
+    }
+
+    // Counts tasks saved before analytics existed and rolls up the days counted
+    // before the monthly rollups, on a daemon thread like the other backfills.
+    // Each runs until it has finished once; tasks missed meanwhile are counted
+    // on their next change
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread worker = new Thread(this::backfill, "analytics-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void backfill() {
+        if (!backfillTracker.isDone(TASK_BACKFILL) && countExistingTasks()) {
+            backfillTracker.markDone(TASK_BACKFILL);
+        }
+        if (!backfillTracker.isDone(ROLLUP_BACKFILL) && rollUpEarlierDays()) {
+            backfillTracker.markDone(ROLLUP_BACKFILL);
+            rollupsReady = true;
+        }
+    }
+
+    private boolean countExistingTasks() {
+        Query query = Query.query(Criteria.where("boardId").ne(null));
+        query.fields().include("boardId").include("columnId").include("status").include("createdAt");
+        int counted = 0;
+        try (Stream<Task> tasks = mongoTemplate.stream(query, Task.class)) {
+            List<Task> batch = new ArrayList<>(BATCH_SIZE);
+            for (Task task : (Iterable<Task>) tasks::iterator) {
+                batch.add(task);
+                if (batch.size() == BATCH_SIZE) {
+                    counted += countUncounted(batch);
+                    batch.clear();
+                }
+            }
+            counted += countUncounted(batch);
+        } catch (RuntimeException e) {
+            log.warn("Analytics backfill failed after {} tasks; the rest are counted on their next change", counted, e);
+            return false;
+        }
+        if (counted > 0) {
+            log.info("Counted {} existing tasks in board analytics", counted);
+        }
+        return true;
+    }
+
+    // Flagging a day first hands its later changes to apply(), so each change
+    // reaches the month's rollup exactly once
+    private boolean rollUpEarlierDays() {
+        Query query = Query.query(Criteria.where("rolledUp").ne(true));
+        query.fields().include("_id");
+        int rolledUp = 0;
+        try (Stream<BoardDailyCounters> days = mongoTemplate.stream(query, BoardDailyCounters.class)) {
+            for (BoardDailyCounters day : (Iterable<BoardDailyCounters>) days::iterator) {
+                BoardDailyCounters before = mongoTemplate.findAndModify(
+                        Query.query(Criteria.where("_id").is(day.getId()).and("rolledUp").ne(true)),
+                        new Update().set("rolledUp", true), BoardDailyCounters.class);
+                if (before != null) {
+                    Map<String, Long> deltas = new HashMap<>();
+                    prefixed(deltas, "statusDelta", before.getStatusDelta());
+                    prefixed(deltas, "columnDelta", before.getColumnDelta());
+                    rollUp(before.getBoardId(), before.getDate(), deltas);
+                    rolledUp++;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Analytics rollup failed after {} days; ranges are read from each board's first day", rolledUp, e);
+            return false;
+        }
+        if (rolledUp > 0) {
+            log.info("Rolled up {} days of board analytics into months", rolledUp);
+        }
+        return true;
+    }
+
+    private boolean rollupsReady() {
+        if (!rollupsReady) {
+            rollupsReady = backfillTracker.isDone(ROLLUP_BACKFILL);
+        }
+        return rollupsReady;
+    }
+
+    private int countUncounted(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        Query query = Query.query(Criteria.where("_id")
+                .in(tasks.stream().map(task -> TaskTransition.createdId(task.getId())).toList()));
+        query.fields().include("_id");
+        Set<String> counted = new HashSet<>();
+        mongoTemplate.find(query, TaskTransition.class).forEach(entry -> counted.add(entry.getId()));
+
+        int newlyCounted = 0;
+        for (Task task : tasks) {
+            if (!counted.contains(TaskTransition.createdId(task.getId()))
+                    && count(task.getId(), task.getBoardId(), task.getColumnId(), task.getStatus(), task.getCreatedAt())) {
+                newlyCounted++;
+            }
+        }
+        return newlyCounted;
+    }
+
+    // Adds the task to its column and status on the day it was created, unless
+    // that was done already; returns whether it was
+    private boolean count(String taskId, String boardId, String columnId, Task.TaskStatus status,
+                          LocalDateTime createdAt) {
+        if (boardId == null) {
+            return false;
+        }
+        LocalDateTime at = createdAt != null ? createdAt : LocalDateTime.now();
+        TaskTransition created = new TaskTransition(taskId, boardId, at);
+        created.setId(TaskTransition.createdId(taskId));
+        created.setToColumnId(columnId);
+        created.setToStatus(status);
+        try {
+            mongoTemplate.insert(created);
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+        Update update = new Update();
+        inc(update, "columnDelta", columnId, 1);
+        inc(update, "statusDelta", status, 1);
+        apply(boardId, at.toLocalDate(), update);
+        return true;
+    }
+
+    // Work starts when the task first leaves TODO; a task finished straight
+    // from TODO is measured from its creation
+    private long cycleTime(Task task, LocalDateTime completedAt) {
+        Query started = Query.query(Criteria.where("taskId").is(task.getId())
+                        .and("toStatus").in(Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.REVIEW, Task.TaskStatus.DONE))
+                .with(Sort.by("occurredAt"));
+        TaskTransition first = mongoTemplate.findOne(started, TaskTransition.class);
+        LocalDateTime start = first != null ? first.getOccurredAt() : task.getCreatedAt();
+        return start != null ? Math.max(0, Duration.between(start, completedAt).toHours()) : 0;
+    }
+
+    private static String bucket(long hours) {
+        for (long bound : CYCLE_TIME_BUCKETS) {
+            if (hours < bound) {
+                return String.valueOf(bound);
+            }
+        }
+        return OVERFLOW_BUCKET;
+    }
+
+    private static BoardAnalytics.CycleTime percentiles(Map<String, Long> cycleTimes) {
+        long count = cycleTimes.values().stream().mapToLong(Long::longValue).sum();
+        if (count == 0) {
+            return new BoardAnalytics.CycleTime(0, null, null, null);
+        }
+        return new BoardAnalytics.CycleTime(count, percentile(cycleTimes, count, 0.50),
+                percentile(cycleTimes, count, 0.85), percentile(cycleTimes, count, 0.95));
+    }
+
+    private static Long percentile(Map<String, Long> cycleTimes, long count, double fraction) {
+        long rank = (long) Math.ceil(count * fraction);
+        long seen = 0;
+        for (long bound : CYCLE_TIME_BUCKETS) {
+            seen += cycleTimes.getOrDefault(String.valueOf(bound), 0L);
+            if (seen >= rank) {
+                return bound;
+            }
+        }
+        return null;
+    }
+
+    private static void inc(Update update, String map, Object key, long delta) {
+        if (key != null) {
+            update.inc(map + "." + key, delta);
+        }
+    }
+
+    private static void add(Map<String, Long> totals, Map<String, Long> deltas) {
+        if (deltas != null) {
+            deltas.forEach((key, delta) -> totals.merge(key, delta, Long::sum));
+        }
+    }
+
+    private static void prefixed(Map<String, Long> deltas, String map, Map<String, Long> values) {
+        if (values != null) {
+            values.forEach((key, delta) -> deltas.put(map + "." + key, delta));
+        }
+    }
+
+    // A day created now is rolled up from its first change; one from before the
+    // rollups gets its changes there once rollUpEarlierDays() flagged it
+    private void apply(String boardId, LocalDate date, Update update) {
+        if (update.getUpdateObject().isEmpty()) {
+            return;
+        }
+        Map<String, Long> flow = new HashMap<>();
+        update.getUpdateObject().get("$inc", Document.class).forEach((key, delta) -> {
+            if (key.startsWith("statusDelta.") || key.startsWith("columnDelta.")) {
+                flow.put(key, ((Number) delta).longValue());
+            }
+        });
+        update.setOnInsert("boardId", boardId).setOnInsert("date", date).setOnInsert("rolledUp", true);
+        Query query = Query.query(Criteria.where("_id").is(BoardDailyCounters.idOf(boardId, date)));
+        query.fields().include("rolledUp");
+        BoardDailyCounters day = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), BoardDailyCounters.class);
+        if (day != null && day.isRolledUp()) {
+            rollUp(boardId, date, flow);
+        }
+    }
+
+    private void rollUp(String boardId, LocalDate date, Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        LocalDate month = date.withDayOfMonth(1);
+        Update update = new Update();
+        deltas.forEach(update::inc);
+        update.setOnInsert("boardId", boardId).setOnInsert("month", month);
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(BoardMonthlyCounters.idOf(boardId, month))),
+                update, BoardMonthlyCounters.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.config.CacheConfig;
+import com.taskflow.backend.event.BoardChangeEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts cached board lookups when a change to the board is committed. Runs
+ * before other listeners so event subscribers that reload never see the old
+ * entry.
+ */
+@Service
+public class BoardCacheInvalidator {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onBoardChange(BoardChangeEvent event) {
+        String boardId = event.getBoardId();
+        if (boardId == null) {
+            return;
+        }
+
+        switch (event.getEntityType()) {
+            case BOARD -> {
+                // Reordering the board's columns is published as a board update
+                evict(CacheConfig.BOARDS, boardId);
+                evict(CacheConfig.BOARD_COLUMNS, boardId);
+            }
+            case COLUMN -> evict(CacheConfig.BOARD_COLUMNS, boardId);
+            case TASK -> {
+                // Cached columns carry their task counts
+                if (event.getAction() != BoardChangeEvent.Action.UPDATED) {
+                    evict(CacheConfig.BOARD_COLUMNS, boardId);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void evict(String cacheName, String boardId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(boardId);
+        }
+    }
+}
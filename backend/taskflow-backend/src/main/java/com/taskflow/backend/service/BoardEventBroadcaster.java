@@ -0,0 +1,180 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.event.BoardChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans board change events out to Server-Sent Event subscribers of that board.
+ * Each subscriber has its own bounded queue drained on a dedicated, bounded
+ * pool, so a slow client never blocks the request that made the change and a
+ * stalled one only holds a drain thread, never a thread other work needs. A
+ * client whose queue overflows, or whose drain the pool cannot take, is
+ * disconnected and is expected to reload the board snapshot when it reconnects.
+ */
+@Service
+public class BoardEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardEventBroadcaster.class);
+
+    private final Map<String, Set<Subscriber>> subscribersByBoard = new ConcurrentHashMap<>();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${taskflow.events.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${taskflow.events.drain.threads:16}")
+    private int drainThreads;
+
+    @Value("${taskflow.events.drain.queue-capacity:1024}")
+    private int drainQueueCapacity;
+
+    @Value("${taskflow.events.timeout:30m}")
+    private Duration timeout;
+
+    // Not a bean: an Executor bean would replace Spring Boot's applicationTaskExecutor
+    private ThreadPoolTaskExecutor drainExecutor;
+
+    @PostConstruct
+    void init() {
+        drainExecutor = new ThreadPoolTaskExecutor();
+        drainExecutor.setCorePoolSize(drainThreads);
+        drainExecutor.setMaxPoolSize(drainThreads);
+        drainExecutor.setQueueCapacity(drainQueueCapacity);
+        drainExecutor.setThreadNamePrefix("sse-drain-");
+        drainExecutor.initialize();
+        ExecutorServiceMetrics.monitor(meterRegistry, drainExecutor.getThreadPoolExecutor(), "sseDrain", List.of());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        drainExecutor.shutdown();
+    }
+
+    public SseEmitter subscribe(String boardId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(boardId, emitter, new ArrayBlockingQueue<>(queueCapacity));
+        subscribersByBoard.compute(boardId, (key, subscribers) -> {
+            Set<Subscriber> boardSubscribers = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            boardSubscribers.add(subscriber);
+            return boardSubscribers;
+        });
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChange(BoardChangeEvent event) {
+        Set<Subscriber> subscribers = subscribersByBoard.get(event.getBoardId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue.offer(event)) {
+                log.debug("Dropping slow event subscriber for board {}", event.getBoardId());
+                disconnect(subscriber);
+                continue;
+            }
+            scheduleDrain(subscriber);
+        }
+    }
+
+    // Keeps idle connections open through proxies and detects dead clients
+    @Scheduled(fixedDelayString = "${taskflow.events.heartbeat-interval:PT25S}")
+    public void sendHeartbeats() {
+        subscribersByBoard.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            try {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                remove(subscriber);
+            }
+        }));
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            drainExecutor.execute(() -> drain(subscriber));
+        } catch (TaskRejectedException e) {
+            // Every drain thread is stuck on a slow client and the backlog is full
+            log.debug("Dropping event subscriber for board {}, no drain capacity", subscriber.boardId);
+            subscriber.draining.set(false);
+            disconnect(subscriber);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            BoardChangeEvent event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name(event.getEntityType().name().toLowerCase())
+                        .data(event));
+            }
+        } catch (IOException | IllegalStateException e) {
+            remove(subscriber);
+            subscriber.queue.clear();
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // An event may have been queued after the last poll but before the flag was cleared
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.queue.clear();
+        subscriber.emitter.complete();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribersByBoard.computeIfPresent(subscriber.boardId, (boardId, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static final class Subscriber {
+        private final String boardId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<BoardChangeEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(String boardId, SseEmitter emitter, BlockingQueue<BoardChangeEvent> queue) {
+            this.boardId = boardId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.dto.BoardSnapshot;
+import com.taskflow.backend.model.Board;
+import com.taskflow.backend.model.Column;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.BoardRepository;
+import com.taskflow.backend.repository.ColumnRepository;
+import com.taskflow.backend.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Service
+public class BoardSnapshotService {
+
+    private static final Comparator<Column> COLUMN_ORDER =
+            Comparator.comparing(Column::getRank, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparingInt(Column::getPosition);
+    private static final Comparator<Task> TASK_ORDER =
+            Comparator.comparing(Task::getRank, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(Task::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    /**
+     * Loads a board together with its columns and tasks. The three indexed
+     * queries run in turn on the request thread, so concurrent board opens are
+     * limited by request threads rather than a shared pool, and an unknown
+     * board costs a single query.
+     */
+    public Optional<BoardSnapshot> getSnapshot(String boardId) {
+        return boardRepository.findById(boardId)
+                .map(board -> assemble(board, columnRepository.findByBoardIdOrderByRank(boardId),
+                        taskRepository.findByBoardId(boardId)));
+    }
+
+    private BoardSnapshot assemble(Board board, List<Column> columns, List<Task> tasks) {
+        Map<String, List<Task>> tasksByColumn = new HashMap<>();
+        for (Task task : tasks) {
+            tasksByColumn.computeIfAbsent(task.getColumnId(), key -> new ArrayList<>()).add(task);
+        }
+
+        List<BoardSnapshot.ColumnSnapshot> columnSnapshots = new ArrayList<>();
+        for (Column column : orderBy(columns, board.getColumnOrder(), Column::getId, COLUMN_ORDER)) {
+            List<Task> columnTasks = tasksByColumn.getOrDefault(column.getId(), List.of());
+            List<Task> orderedTasks = orderBy(columnTasks, column.getTaskIds(), Task::getId, TASK_ORDER);
+            columnSnapshots.add(new BoardSnapshot.ColumnSnapshot(column, orderedTasks));
+        }
+
+        return new BoardSnapshot(board, columnSnapshots);
+    }
+
+    // Items listed in a legacy explicit order come first (lists not yet migrated
+    // to ranks); everything else follows by rank, so nothing is dropped.
+    private <T> List<T> orderBy(List<T> items, List<String> order, Function<T, String> idOf, Comparator<T> fallback) {
+        Map<String, T> remaining = new LinkedHashMap<>();
+        for (T item : items) {
+            remaining.put(idOf.apply(item), item);
+        }
+
+        List<T> ordered = new ArrayList<>(items.size());
+        if (order != null) {
+            for (String id : order) {
+                T item = remaining.remove(id);
+                if (item != null) {
+                    ordered.add(item);
+                }
+            }
+        }
+
+        List<T> rest = new ArrayList<>(remaining.values());
+        if (fallback != null) {
+            rest.sort(fallback);
+        }
+        ordered.addAll(rest);
+        return ordered;
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskflow.backend.service;
+
+import com.mongodb.client.result.DeleteResult;
+import com.taskflow.backend.event.BoardChangeEvent;
+import com.taskflow.backend.model.Board;
+import com.taskflow.backend.model.Column;
+import com.taskflow.backend.model.Comment;
+import com.taskflow.backend.model.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Service
+public class CascadeDeleteService {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private BoardAnalyticsService boardAnalyticsService;
+
+    @Autowired
+    private ColumnTaskCountService columnTaskCountService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Deletes a board with all of its columns, tasks and comments using one
+     * deleteMany per collection. Returns false when the board does not exist.
+     */
+    @Transactional
+    public boolean deleteBoard(String boardId) {
+        Query columnsQuery = Query.query(Criteria.where("boardId").is(boardId));
+        columnsQuery.fields().include("_id");
+        List<String> columnIds = mongoTemplate.find(columnsQuery, Column.class).stream()
+                .map(Column::getId)
+                .toList();
+
+        // Older tasks may only be linked through their column, so match on both
+        Criteria taskCriteria = columnIds.isEmpty()
+                ? Criteria.where("boardId").is(boardId)
+                : new Criteria().orOperator(
+                        Criteria.where("boardId").is(boardId),
+                        Criteria.where("columnId").in(columnIds));
+        mongoTemplate.remove(Query.query(taskCriteria), Task.class);
+        mongoTemplate.remove(Query.query(Criteria.where("boardId").is(boardId)), Comment.class);
+        mongoTemplate.remove(Query.query(Criteria.where("boardId").is(boardId)), Column.class);
+        boardAnalyticsService.deleteBoard(boardId);
+
+        DeleteResult board = mongoTemplate.remove(Query.query(Criteria.where("_id").is(boardId)), Board.class);
+        return board.getDeletedCount() > 0;
+    }
+
+    /**
+     * Deletes a task with its comments and gives its place in the column back.
+     * Returns the deleted task, or empty when it did not exist; of concurrent
+     * deletes only one gets the task, so its column is released once.
+     */
+    @Transactional
+    public Optional<Task> deleteTask(String taskId) {
+        Task task = mongoTemplate.findAndRemove(Query.query(Criteria.where("_id").is(taskId)), Task.class);
+        if (task == null) {
+            return Optional.empty();
+        }
+        mongoTemplate.remove(Query.query(Criteria.where("taskId").is(taskId)), Comment.class);
+        columnTaskCountService.release(task.getColumnId());
+        boardAnalyticsService.recordDeleted(task);
+        return Optional.of(task);
+    }
+
+    /**
+     * Deletes a column with its tasks and their comments, streaming the tasks in
+     * batches of {@value #BATCH_SIZE} so a large column is never held in memory
+     * or sent as one id list. Returns false when the column does not exist.
+     */
+    @Transactional
+    public boolean deleteColumn(String columnId) {
+        Column column = mongoTemplate.findAndRemove(Query.query(Criteria.where("_id").is(columnId)), Column.class);
+        if (column == null) {
+            return false;
+        }
+
+        // The tasks' column and status are what the analytics take them out of
+        Query tasksQuery = Query.query(Criteria.where("columnId").is(columnId));
+        tasksQuery.fields().include("boardId").include("columnId").include("status").include("createdAt");
+        try (Stream<Task> tasks = mongoTemplate.stream(tasksQuery, Task.class)) {
+            List<Task> batch = new ArrayList<>(BATCH_SIZE);
+            for (Task task : (Iterable<Task>) tasks::iterator) {
+                batch.add(task);
+                if (batch.size() == BATCH_SIZE) {
+                    deleteTasks(batch);
+                    batch.clear();
+                }
+            }
+            deleteTasks(batch);
+        }
+
+        if (column.getBoardId() != null) {
+            eventPublisher.publishEvent(new BoardChangeEvent(column.getBoardId(), BoardChangeEvent.EntityType.COLUMN,
+                    BoardChangeEvent.Action.DELETED, columnId, null));
+        }
+        return true;
+    }
+
+    private void deleteTasks(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<String> taskIds = tasks.stream().map(Task::getId).toList();
+        mongoTemplate.remove(Query.query(Criteria.where("taskId").in(taskIds)), Comment.class);
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(taskIds)), Task.class);
+        boardAnalyticsService.recordDeleted(tasks);
+    }
+}
@@ -0,0 +1,119 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.dto.UpdateChecklistItemRequest;
+import com.taskflow.backend.event.BoardChangeEvent;
+import com.taskflow.backend.model.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Checklist edits as single-document array updates, so toggling an item never
+ * reads or rewrites the rest of the task. Edits to item text refresh the
+ * task's search grams in the background.
+ */
+@Service
+public class ChecklistService {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private TaskSearchIndexer taskSearchIndexer;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public Optional<Task.ChecklistItem> addItem(String taskId, Task.ChecklistItem item) {
+        item.setId(UUID.randomUUID().toString());
+        item.setCreatedAt(LocalDateTime.now());
+
+        Update update = new Update()
+                .push("checklist", item)
+                .set("updatedAt", LocalDateTime.now())
+                .inc("version", 1);
+        Query query = taskQuery(taskId);
+        query.fields().include("boardId");
+        Task task = mongoTemplate.findAndModify(query, update, Task.class);
+        if (task == null) {
+            return Optional.empty();
+        }
+        taskSearchIndexer.reindexLater(taskId);
+        publish(task.getBoardId(), BoardChangeEvent.Action.CREATED, item.getId(), taskId, item);
+        return Optional.of(item);
+    }
+
+    // Sets only the fields present in the request, so renaming an item keeps it completed
+    public Optional<Task.ChecklistItem> updateItem(String taskId, String itemId, UpdateChecklistItemRequest item) {
+        Update update = new Update()
+                .set("updatedAt", LocalDateTime.now())
+                .inc("version", 1)
+                .filterArray(Criteria.where("item._id").is(itemId));
+        if (item.getCompleted() != null) {
+            update.set("checklist.$[item].isCompleted", item.getCompleted());
+        }
+        if (item.getText() != null) {
+            update.set("checklist.$[item].text", item.getText());
+        }
+
+        Query query = itemQuery(taskId, itemId);
+        // Nested "id" properties are stored as "_id"; array filters and
+        // projections are not mapped, so they use the stored name
+        query.fields().include("boardId").elemMatch("checklist", Criteria.where("_id").is(itemId));
+        Task updated = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Task.class);
+        if (updated == null) {
+            return Optional.empty();
+        }
+        List<Task.ChecklistItem> checklist = updated.getChecklist();
+        if (checklist == null || checklist.isEmpty()) {
+            return Optional.empty();
+        }
+        if (item.getText() != null) {
+            taskSearchIndexer.reindexLater(taskId); // toggling an item leaves the grams as they are
+        }
+        publish(updated.getBoardId(), BoardChangeEvent.Action.UPDATED, itemId, taskId, checklist.get(0));
+        return Optional.of(checklist.get(0));
+    }
+
+    public boolean deleteItem(String taskId, String itemId) {
+        Update update = new Update()
+                .pull("checklist", Query.query(Criteria.where("id").is(itemId)))
+                .set("updatedAt", LocalDateTime.now())
+                .inc("version", 1);
+        Query query = itemQuery(taskId, itemId);
+        query.fields().include("boardId");
+        // The item criteria only match while the item is present, so a result means it was pulled
+        Task task = mongoTemplate.findAndModify(query, update, Task.class);
+        if (task == null) {
+            return false;
+        }
+        taskSearchIndexer.reindexLater(taskId);
+        publish(task.getBoardId(), BoardChangeEvent.Action.DELETED, itemId, taskId, null);
+        return true;
+    }
+
+    private void publish(String boardId, BoardChangeEvent.Action action, String itemId, String taskId,
+                         Task.ChecklistItem item) {
+        eventPublisher.publishEvent(new BoardChangeEvent(boardId, BoardChangeEvent.EntityType.CHECKLIST_ITEM,
+                action, itemId, taskId, item));
+    }
+
+    private Query taskQuery(String taskId) {
+        return Query.query(Criteria.where("_id").is(taskId));
+    }
+
+    private Query itemQuery(String taskId, String itemId) {
+        return Query.query(Criteria.where("_id").is(taskId).and("checklist.id").is(itemId));
+    }
+}
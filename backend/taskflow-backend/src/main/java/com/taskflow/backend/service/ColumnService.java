@@ -0,0 +1,38 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.model.Column;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ColumnService {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Writes the fields that PUT /columns/{id} edits, if the column is still at
+     * the version that was read. A full save would also write back the task
+     * count read with the column, losing tasks that arrived or left since; the
+     * count is kept by {@link ColumnTaskCountService} outside the version.
+     */
+    public Column update(Column column) {
+        Query unchanged = Query.query(Criteria.where("_id").is(column.getId()).and("version").is(column.getVersion()));
+        Update update = new Update()
+                .set("title", column.getTitle())
+                .set("updatedAt", column.getUpdatedAt())
+                .inc("version", 1);
+        Column updated = mongoTemplate.findAndModify(unchanged, update,
+                FindAndModifyOptions.options().returnNew(true), Column.class);
+        if (updated == null) {
+            throw new OptimisticLockingFailureException("Column was changed or deleted: " + column.getId());
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,145 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.exception.ConflictException;
+import com.taskflow.backend.exception.ResourceNotFoundException;
+import com.taskflow.backend.model.Column;
+import com.taskflow.backend.model.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.stream.Stream;
+
+/**
+ * Keeps {@code Column.taskCount} and enforces WIP limits with it. A task takes
+ * its place in a column through a single conditional increment that only
+ * matches while the column is below its limit, so concurrent creates and moves
+ * cannot overfill a column, and listings read the count from the column
+ * instead of counting tasks. Columns from before the counter are counted once,
+ * by the startup backfill or on first use, whichever comes first; until then
+ * only increments are held back, since the count taken later includes them.
+ *
+ * <p>The count is not part of the column's version: updates go by collection
+ * name, which leaves the version alone, and edits of a column only write the
+ * fields they change, so task traffic neither changes a column's ETag nor
+ * conflicts with its edits.
+ */
+@Service
+public class ColumnTaskCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnTaskCountService.class);
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    // Rendered up front, as updates by collection name have no type to map it with
+    private static final MongoExpression BELOW_LIMIT = MongoExpression.create("{ $lt: ['$taskCount', '$limit'] }");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Takes a place for one task in the column, which must be on the given
+     * board when one is given. Throws when the column does not exist or is at
+     * its limit; a caller that then fails to place the task must
+     * {@link #release} the place again.
+     */
+    public void reserve(String columnId, String boardId) {
+        Criteria column = Criteria.where("_id").is(columnId);
+        if (boardId != null) {
+            column = column.and("boardId").is(boardId);
+        }
+        Query belowLimit = Query.query(new Criteria().andOperator(
+                column,
+                Criteria.where("taskCount").exists(true),
+                new Criteria().orOperator(
+                        Criteria.where("limit").is(null),
+                        Criteria.expr(BELOW_LIMIT))));
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            if (update(belowLimit, new Update().inc("taskCount", 1))) {
+                return;
+            }
+
+            // Nothing matched: find out why
+            Query current = Query.query(column);
+            current.fields().include("taskCount").include("limit");
+            Column found = mongoTemplate.findOne(current, Column.class);
+            if (found == null) {
+                throw new ResourceNotFoundException("Column not found: " + columnId);
+            }
+            if (found.getTaskCount() == null) {
+                count(columnId);
+            } else if (found.getLimit() != null && found.getTaskCount() >= found.getLimit()) {
+                throw new ConflictException("Column " + columnId + " is at its WIP limit of " + found.getLimit());
+            }
+        }
+        throw new ConflictException("Column " + columnId + " kept changing; try again");
+    }
+
+    // For a task that is already in the column, so its limit does not apply
+    public void add(String columnId) {
+        if (columnId == null) {
+            return;
+        }
+        update(Query.query(Criteria.where("_id").is(columnId).and("taskCount").exists(true)),
+                new Update().inc("taskCount", 1));
+    }
+
+    public void release(String columnId) {
+        if (columnId == null) {
+            return;
+        }
+        update(Query.query(Criteria.where("_id").is(columnId).and("taskCount").gt(0)),
+                new Update().inc("taskCount", -1));
+    }
+
+    // Counts columns created before the counter, on a daemon thread like the
+    // other backfills; a failure leaves the rest to be counted on first use
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread worker = new Thread(this::backfill, "column-count-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void backfill() {
+        Query query = Query.query(Criteria.where("taskCount").exists(false));
+        query.fields().include("_id");
+        int counted = 0;
+        try (Stream<Column> columns = mongoTemplate.stream(query, Column.class)) {
+            for (Column column : (Iterable<Column>) columns::iterator) {
+                if (count(column.getId())) {
+                    counted++;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Column count backfill failed after {} columns; the rest are counted on first use", counted, e);
+            return;
+        }
+        if (counted > 0) {
+            log.info("Counted tasks in {} columns", counted);
+        }
+    }
+
+    // Sets the count of a column that has none yet; false if it already had one
+    private boolean count(String columnId) {
+        long tasks = mongoTemplate.count(Query.query(Criteria.where("columnId").is(columnId)), Task.class);
+        return update(Query.query(Criteria.where("_id").is(columnId).and("taskCount").exists(false)),
+                new Update().set("taskCount", (int) tasks));
+    }
+
+    // By collection name: an update typed to Column would also increment its
+    // version, and the count is kept outside of it
+    private boolean update(Query query, Update update) {
+        return mongoTemplate.updateFirst(query, update, mongoTemplate.getCollectionName(Column.class))
+                .getMatchedCount() > 0;
+    }
+}
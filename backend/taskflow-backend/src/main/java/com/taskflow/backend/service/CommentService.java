@@ -0,0 +1,149 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.dto.CommentPage;
+import com.taskflow.backend.event.BoardChangeEvent;
+import com.taskflow.backend.model.Comment;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.CommentRepository;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class CommentService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public Optional<CommentPage> getComments(String taskId, String cursor, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit, DEFAULT_LIMIT, MAX_LIMIT);
+        if (findTask(taskId).isEmpty()) {
+            return Optional.empty();
+        }
+
+        Criteria criteria = Criteria.where("taskId").is(taskId);
+        if (cursor != null && !cursor.isBlank()) {
+            criteria = new Criteria().andOperator(criteria, KeysetCursor.decode(cursor).after());
+        }
+        Query query = Query.query(criteria)
+                .with(KeysetCursor.SORT)
+                .limit(pageSize + 1);
+
+        List<Comment> comments = mongoTemplate.find(query, Comment.class);
+        String nextCursor = null;
+        if (comments.size() > pageSize) {
+            comments = comments.subList(0, pageSize);
+            Comment last = comments.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return Optional.of(new CommentPage(comments, nextCursor));
+    }
+
+    public Optional<Comment> addComment(String taskId, Comment comment) {
+        return findTask(taskId).map(task -> {
+            comment.setId(null);
+            comment.setTaskId(taskId);
+            comment.setBoardId(task.getBoardId());
+            comment.setCreatedAt(LocalDateTime.now());
+            comment.setUpdatedAt(LocalDateTime.now());
+            Comment saved = commentRepository.insert(comment);
+            eventPublisher.publishEvent(new BoardChangeEvent(saved.getBoardId(), BoardChangeEvent.EntityType.COMMENT,
+                    BoardChangeEvent.Action.CREATED, saved.getId(), taskId, saved));
+            return saved;
+        });
+    }
+
+    /**
+     * Loads only the task fields comments need. Tasks written before comments had
+     * their own collection still embed them; those are moved out on first access.
+     */
+    private Optional<Task> findTask(String taskId) {
+        Query query = Query.query(Criteria.where("_id").is(taskId));
+        query.fields().include("boardId").include("comments").include("version");
+        Task task = mongoTemplate.findOne(query, Task.class);
+        if (task == null) {
+            return Optional.empty();
+        }
+
+        migrateEmbeddedComments(task);
+        return Optional.of(task);
+    }
+
+    /**
+     * Moves comments still embedded in {@code task} into the comments collection
+     * and clears them from the task. Full-document saves must call this first so
+     * they do not write the legacy array back.
+     */
+    public void migrateEmbeddedComments(Task task) {
+        List<Task.TaskComment> embedded = task.getComments();
+        if (embedded == null || embedded.isEmpty()) {
+            return;
+        }
+
+        // Copy first, then clear: without a transaction a failure in between
+        // leaves the comments in both places rather than in neither. Each copy
+        // has a fixed id and is only inserted if missing, so concurrent first
+        // reads and retries after a failure write the same documents once
+        BulkOperations copy = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Comment.class);
+        for (int i = 0; i < embedded.size(); i++) {
+            Task.TaskComment legacy = embedded.get(i);
+            copy.upsert(Query.query(Criteria.where("_id").is(migratedId(task.getId(), i, legacy))), new Update()
+                    .setOnInsert("taskId", task.getId())
+                    .setOnInsert("boardId", task.getBoardId())
+                    .setOnInsert("userId", legacy.getUserId())
+                    .setOnInsert("text", legacy.getText())
+                    .setOnInsert("createdAt", legacy.getCreatedAt())
+                    .setOnInsert("updatedAt", legacy.getUpdatedAt()));
+        }
+        copy.execute();
+
+        // Conditional on the version that was read; on a miss the caller's save
+        // fails its version check and the array is cleared on the next access
+        Query claim = Query.query(Criteria.where("_id").is(task.getId()).and("comments").exists(true)
+                .and("version").is(task.getVersion()));
+        claim.fields().include("version");
+        Task claimed = mongoTemplate.findAndModify(claim, new Update().unset("comments").inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true), Task.class);
+        if (claimed != null) {
+            // Our own write, so the caller's save stays conditional on it
+            task.setVersion(claimed.getVersion());
+        }
+        task.setComments(null);
+    }
+
+    // Legacy ids are kept so references to them still resolve. Comments without
+    // one get an ObjectId derived from the task and their position in the array
+    static String migratedId(String taskId, int index, Task.TaskComment legacy) {
+        if (legacy.getId() != null && !legacy.getId().isBlank()) {
+            return legacy.getId();
+        }
+        UUID hash = UUID.nameUUIDFromBytes((taskId + ":" + index).getBytes(StandardCharsets.UTF_8));
+        ByteBuffer bytes = ByteBuffer.allocate(12)
+                .putLong(hash.getMostSignificantBits())
+                .putInt((int) hash.getLeastSignificantBits());
+        return new ObjectId(bytes.array()).toHexString();
+    }
+}
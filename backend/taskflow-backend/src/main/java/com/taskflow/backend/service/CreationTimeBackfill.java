@@ -0,0 +1,97 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.model.Comment;
+import com.taskflow.backend.model.Task;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Service;
+
+import java.util.stream.Stream;
+
+/**
+ * Gives tasks and comments saved without a createdAt the creation time of
+ * their ObjectId. Listings page by (createdAt, id), and such a document is
+ * read back with the time it was loaded (the entities default createdAt to
+ * now), so a page ending on one would hand out a cursor past every later
+ * document.
+ */
+@Service
+public class CreationTimeBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(CreationTimeBackfill.class);
+
+    static final String BACKFILL = "creation-times";
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private BackfillTracker backfillTracker;
+
+    // On a daemon thread like the other backfills; runs until it has finished once
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread worker = new Thread(this::backfill, "creation-time-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void backfill() {
+        if (backfillTracker.isDone(BACKFILL)) {
+            return;
+        }
+        try {
+            int filled = fill(Task.class) + fill(Comment.class);
+            if (filled > 0) {
+                log.info("Set the creation time of {} tasks and comments from their ids", filled);
+            }
+            backfillTracker.markDone(BACKFILL);
+        } catch (RuntimeException e) {
+            log.warn("Creation time backfill failed; it is retried at the next startup", e);
+        }
+    }
+
+    // Written by collection name: an update typed to Task would also increment
+    // its version. The id's timestamp is stored as the Date a LocalDateTime maps to
+    private int fill(Class<?> type) {
+        String collection = mongoTemplate.getCollectionName(type);
+        Query query = Query.query(Criteria.where("createdAt").is(null)
+                .and("_id").type(JsonSchemaObject.Type.OBJECT_ID));
+        query.fields().include("_id");
+        int filled = 0;
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, collection)) {
+            BulkOperations bulk = null;
+            int pending = 0;
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                ObjectId id = document.getObjectId("_id");
+                if (bulk == null) {
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+                }
+                bulk.updateOne(Query.query(Criteria.where("_id").is(id).and("createdAt").is(null)),
+                        new Update().set("createdAt", id.getDate()));
+                if (++pending == BATCH_SIZE) {
+                    filled += bulk.execute().getModifiedCount();
+                    bulk = null;
+                    pending = 0;
+                }
+            }
+            if (bulk != null) {
+                filled += bulk.execute().getModifiedCount();
+            }
+        }
+        return filled;
+    }
+}
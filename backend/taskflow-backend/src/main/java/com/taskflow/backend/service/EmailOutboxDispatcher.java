@@ -0,0 +1,235 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.model.OutboundEmail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends queued emails from the outbox. Each run claims a batch and hands it to
+ * the mail sender in one call, which delivers it over a single SMTP
+ * connection. Failed messages are retried with exponential backoff until
+ * {@code max-attempts} is reached. A batch whose claim expires (for example
+ * because the instance died mid-send) is picked up again by a later run; the
+ * SMTP timeouts in {@code spring.mail.properties} keep a hung server from
+ * holding a batch that long. Finished emails lose their text, which may hold a
+ * reset token, and are removed by a TTL index 30 days later.
+ */
+@Service
+public class EmailOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${taskflow.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${taskflow.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${taskflow.mail.outbox.initial-backoff:PT30S}")
+    private Duration initialBackoff;
+
+    @Value("${taskflow.mail.outbox.max-backoff:PT1H}")
+    private Duration maxBackoff;
+
+    @Value("${taskflow.mail.outbox.claim-timeout:PT5M}")
+    private Duration claimTimeout;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private Timer batchSendTimer;
+    private Timer deliveryDelayTimer;
+    private Counter sentCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void initMetrics() {
+        Gauge.builder("taskflow.mail.outbox.queued", queueDepth, AtomicLong::get)
+                .description("Emails waiting to be sent")
+                .register(meterRegistry);
+        batchSendTimer = Timer.builder("taskflow.mail.outbox.batch.send")
+                .description("Time spent delivering one batch to the SMTP server")
+                .register(meterRegistry);
+        deliveryDelayTimer = Timer.builder("taskflow.mail.outbox.delivery.delay")
+                .description("Time from enqueueing an email to handing it to the SMTP server")
+                .register(meterRegistry);
+        sentCounter = Counter.builder("taskflow.mail.outbox.sent").register(meterRegistry);
+        retriedCounter = Counter.builder("taskflow.mail.outbox.retried").register(meterRegistry);
+        failedCounter = Counter.builder("taskflow.mail.outbox.failed").register(meterRegistry);
+    }
+
+    // Emails finished before the TTL index existed, on a daemon thread like
+    // the other backfills
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread worker = new Thread(this::expireFinished, "outbox-expiry-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void expireFinished() {
+        Query finished = Query.query(Criteria.where("status").in(OutboundEmail.Status.SENT, OutboundEmail.Status.FAILED)
+                .and("finishedAt").exists(false));
+        try {
+            mongoTemplate.updateMulti(finished, new Update().set("finishedAt", LocalDateTime.now()).unset("text"),
+                    OutboundEmail.class);
+        } catch (RuntimeException e) {
+            log.warn("Could not mark finished emails for expiry", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.mail.outbox.poll-interval:PT5S}")
+    public void dispatch() {
+        List<OutboundEmail> batch = claimBatch();
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+        queueDepth.set(mongoTemplate.count(
+                Query.query(Criteria.where("status").in(OutboundEmail.Status.PENDING, OutboundEmail.Status.SENDING)),
+                OutboundEmail.class));
+    }
+
+    private List<OutboundEmail> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        Query due = Query.query(new Criteria().orOperator(
+                        Criteria.where("status").is(OutboundEmail.Status.PENDING).and("nextAttemptAt").lte(now),
+                        Criteria.where("status").is(OutboundEmail.Status.SENDING).and("lockedUntil").lt(now)))
+                .with(Sort.by("nextAttemptAt"));
+        Update claim = new Update()
+                .set("status", OutboundEmail.Status.SENDING)
+                .set("lockedUntil", now.plus(claimTimeout))
+                .inc("attempts", 1);
+
+        // Claimed one at a time so concurrent instances never take the same email
+        List<OutboundEmail> batch = new ArrayList<>();
+        while (batch.size() < batchSize) {
+            OutboundEmail email = mongoTemplate.findAndModify(due, claim,
+                    FindAndModifyOptions.options().returnNew(true), OutboundEmail.class);
+            if (email == null) {
+                break;
+            }
+            batch.add(email);
+        }
+        return batch;
+    }
+
+    private void send(List<OutboundEmail> batch) {
+        SimpleMailMessage[] messages = batch.stream().map(this::toMessage).toArray(SimpleMailMessage[]::new);
+
+        Map<Object, Exception> failures = Map.of();
+        Exception batchFailure = null;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                batchFailure = e;
+            }
+        } catch (MailException e) {
+            batchFailure = e;
+        } finally {
+            sample.stop(batchSendTimer);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Exception failure = batchFailure != null ? batchFailure : failures.get(messages[i]);
+            if (failure == null) {
+                markSent(batch.get(i));
+            } else {
+                scheduleRetry(batch.get(i), failure);
+            }
+        }
+    }
+
+    private SimpleMailMessage toMessage(OutboundEmail email) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(email.getTo());
+        message.setSubject(email.getSubject());
+        message.setText(email.getText());
+        return message;
+    }
+
+    private void markSent(OutboundEmail email) {
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .set("status", OutboundEmail.Status.SENT)
+                .set("sentAt", now)
+                .set("finishedAt", now)
+                .unset("text")
+                .unset("lockedUntil")
+                .unset("lastError");
+        mongoTemplate.updateFirst(byId(email), update, OutboundEmail.class);
+        sentCounter.increment();
+        if (email.getCreatedAt() != null) {
+            deliveryDelayTimer.record(Duration.between(email.getCreatedAt(), now));
+        }
+    }
+
+    private void scheduleRetry(OutboundEmail email, Exception failure) {
+        Update update = new Update()
+                .set("lastError", failure.getMessage())
+                .unset("lockedUntil");
+        if (email.getAttempts() >= maxAttempts) {
+            log.error("Giving up on email {} to {} after {} attempts", email.getId(), email.getTo(), email.getAttempts(), failure);
+            update.set("status", OutboundEmail.Status.FAILED)
+                    .set("finishedAt", LocalDateTime.now())
+                    .unset("text");
+            failedCounter.increment();
+        } else {
+            Duration backoff = backoff(email.getAttempts());
+            log.warn("Failed to send email {} to {}, retrying in {}: {}", email.getId(), email.getTo(), backoff, failure.getMessage());
+            update.set("status", OutboundEmail.Status.PENDING)
+                    .set("nextAttemptAt", LocalDateTime.now().plus(backoff));
+            retriedCounter.increment();
+        }
+        mongoTemplate.updateFirst(byId(email), update, OutboundEmail.class);
+    }
+
+    // initial-backoff doubled after every failed attempt, capped at max-backoff
+    private Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << doublings);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private Query byId(OutboundEmail email) {
+        return Query.query(Criteria.where("_id").is(email.getId()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.dto.BoardSnapshot;
+import com.taskflow.backend.model.Board;
+import com.taskflow.backend.model.Column;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.Versioned;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ETags for conditional requests. A document's tag is its version, or its
+ * last update time for documents not written since versions were added, so
+ * whether a client's copy is current can be answered by reading those two
+ * fields instead of the whole document.
+ */
+@Service
+public class EntityTagService {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    public static String tagOf(Versioned document) {
+        if (document.getVersion() != null) {
+            return "\"v" + document.getVersion() + "\"";
+        }
+        return "\"t" + document.getUpdatedAt() + "\"";
+    }
+
+    public static String tagOf(BoardSnapshot snapshot) {
+        List<Column> columns = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        for (BoardSnapshot.ColumnSnapshot column : snapshot.getColumns()) {
+            columns.add(column.getColumn());
+            tasks.addAll(column.getTasks());
+        }
+        return snapshotTagOf(snapshot.getBoard(), columns, tasks);
+    }
+
+    public Optional<String> currentTag(Class<? extends Versioned> type, String id) {
+        return Optional.ofNullable(mongoTemplate.findOne(tagQuery(Criteria.where("_id").is(id)), type))
+                .map(EntityTagService::tagOf);
+    }
+
+    public Optional<String> currentSnapshotTag(String boardId) {
+        Board board = mongoTemplate.findOne(tagQuery(Criteria.where("_id").is(boardId)), Board.class);
+        if (board == null) {
+            return Optional.empty();
+        }
+        List<Column> columns = mongoTemplate.find(tagQuery(Criteria.where("boardId").is(boardId)), Column.class);
+        Query tasksQuery = tagQuery(Criteria.where("boardId").is(boardId));
+        tasksQuery.fields().include("columnId");
+        // Like the snapshot itself, leaves out tasks whose column is gone
+        Set<String> columnIds = columns.stream().map(Column::getId).collect(Collectors.toSet());
+        List<Task> tasks = mongoTemplate.find(tasksQuery, Task.class).stream()
+                .filter(task -> columnIds.contains(task.getColumnId()))
+                .toList();
+        return Optional.of(snapshotTagOf(board, columns, tasks));
+    }
+
+    private Query tagQuery(Criteria criteria) {
+        Query query = Query.query(criteria);
+        query.fields().include("version").include("updatedAt");
+        return query;
+    }
+
+    // A snapshot's tag changes whenever the board or any of its columns or
+    // tasks does, and when a column or task is added or removed
+    private static String snapshotTagOf(Board board, List<Column> columns, List<Task> tasks) {
+        StringBuilder state = new StringBuilder(tagOf(board));
+        appendTags(state, columns);
+        appendTags(state, tasks);
+        return "\"s" + DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static void appendTags(StringBuilder state, List<? extends Versioned> documents) {
+        documents.stream()
+                .sorted(Comparator.comparing(Versioned::getId))
+                .forEach(document -> state.append(';').append(document.getId()).append(tagOf(document)));
+    }
+}
@@ -1,29 +1,71 @@
 package com.taskflow.backend.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.taskflow.backend.dto.AuthResponse;
+import com.taskflow.backend.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
     
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String NAME_CLAIM = "name";
+    private static final String AVATAR_CLAIM = "avatar";
+    
     @Value("${spring.security.jwt.secret}")
     private String secret;
     
     @Value("${spring.security.jwt.expiration}")
     private Long expiration;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    @Value("${spring.security.jwt.claims-cache-size:10000}")
+    private long claimsCacheSize;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private SecretKey signingKey;
+    private JwtParser parser;
+    
+    // Verified claims keyed by a hash of the token, so a token is parsed and its
+    // signature checked once rather than on every request that carries it
+    private Cache<String, Claims> verifiedClaims;
+    
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new UntilTokenExpires())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwtClaims");
     }
     
     public String extractUsername(String token) {
@@ -40,20 +82,56 @@ public class JwtService {
     }
     
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        String key = hash(token);
+        Claims claims = verifiedClaims.getIfPresent(key);
+        if (claims == null) {
+            // Invalid or expired tokens throw here and are never cached
+            claims = parser.parseClaimsJws(token).getBody();
+            verifiedClaims.put(key, claims);
+        }
+        return claims;
+    }
+    
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
     
     private Boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
     
-    public String generateToken(String username) {
+    // The profile fields the API needs about the caller travel in the token, so
+    // authenticating a request never has to load the user
+    public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, username);
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(NAME_CLAIM, user.getName());
+        claims.put(AVATAR_CLAIM, user.getAvatar());
+        return createToken(claims, user.getEmail());
+    }
+    
+    /**
+     * Returns the user a token was issued to. Throws a JwtException when the
+     * token is invalid or expired, and returns null for tokens issued without
+     * the user claims.
+     */
+    public AuthResponse.UserDto extractUser(String token) {
+        Claims claims = extractAllClaims(token);
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        if (userId == null) {
+            return null;
+        }
+        return new AuthResponse.UserDto(
+                userId,
+                claims.getSubject(),
+                claims.get(NAME_CLAIM, String.class),
+                claims.get(AVATAR_CLAIM, String.class)
+        );
     }
     
     private String createToken(Map<String, Object> claims, String subject) {
@@ -62,7 +140,7 @@ public class JwtService {
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
     
@@ -70,7 +148,28 @@ public class JwtService {
         final String extractedUsername = extractUsername(token);
         return (extractedUsername.equals(username) && !isTokenExpired(token));
     }
+    
+    // Drops a cached entry when its token expires
+    private static class UntilTokenExpires implements Expiry<String, Claims> {
+        
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiresAt = claims.getExpiration();
+            if (expiresAt == null) {
+                return Long.MAX_VALUE;
+            }
+            long remainingMillis = expiresAt.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+        
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
-
-
-
@@ -0,0 +1,75 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.exception.BadRequestException;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque page cursor for listings ordered by (createdAt, id). Documents saved
+ * without a createdAt sort before any date, and so does the cursor.
+ */
+record KeysetCursor(LocalDateTime createdAt, String id) {
+
+    static final Sort SORT = Sort.by(Sort.Direction.ASC, "createdAt").and(Sort.by(Sort.Direction.ASC, "_id"));
+
+    // Documents strictly after this position in SORT order; a range on a date
+    // never matches unset values, so those are matched apart
+    Criteria after() {
+        return new Criteria().orOperator(
+                createdAt == null ? Criteria.where("createdAt").ne(null) : Criteria.where("createdAt").gt(createdAt),
+                new Criteria().andOperator(
+                        Criteria.where("createdAt").is(createdAt),
+                        idAfter(storedId(id))));
+    }
+
+    // Ranges only match ids of their own type, and string ids (kept from legacy
+    // embedded comments) sort before ObjectIds
+    private static Criteria idAfter(Object storedId) {
+        if (storedId instanceof ObjectId) {
+            return Criteria.where("_id").gt(storedId);
+        }
+        return new Criteria().orOperator(
+                Criteria.where("_id").gt(storedId),
+                Criteria.where("_id").type(JsonSchemaObject.Type.OBJECT_ID));
+    }
+
+    // Ids are compared as stored: the query mapper only converts a String id
+    // to an ObjectId for equality, and a range on one type never matches the other
+    static Object storedId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    static int pageSize(Integer limit, int defaultLimit, int max) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        if (limit < 1 || limit > max) {
+            throw new BadRequestException("limit must be between 1 and " + max);
+        }
+        return limit;
+    }
+
+    String encode() {
+        String raw = (createdAt != null ? createdAt : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            String createdAt = raw.substring(0, separator);
+            return new KeysetCursor(createdAt.isEmpty() ? null : LocalDateTime.parse(createdAt),
+                    raw.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on its own small, bounded pool. BCrypt is deliberately
+ * slow, so once the queue is full new requests fail fast with a
+ * ServiceUnavailableException (503) instead of piling up and taking request
+ * threads away from the rest of the API.
+ */
+@Service
+public class PasswordHashingService {
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${taskflow.auth.hashing.threads:0}")
+    private int threads;
+
+    @Value("${taskflow.auth.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    // Not a bean: an Executor bean would replace Spring Boot's applicationTaskExecutor
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.initialize();
+        // executor.queued, executor.active, executor.completed, ... tagged name=passwordHashing
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "passwordHashing", List.of());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // True when the hash was made with a lower work factor than the one configured
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (TaskRejectedException e) {
+            throw new ServiceUnavailableException("Too many sign-in requests, please retry shortly");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.taskflow.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sort keys for manually ordered lists (tasks in a column, columns on a board).
+ * A key is a base-36 fraction written without the leading "0.", e.g. "i" is
+ * 18/36 and "i8" is 18/36 + 8/36². Keys never end in '0', so plain string
+ * comparison (MongoDB's default) orders them numerically and there is always
+ * room for another key before or between them. Moving an item therefore only
+ * rewrites that item's key; keys grow by about one character per five
+ * insertions at the same spot, until the list is rebalanced with
+ * {@link #sequence(int)}.
+ */
+public final class RankKey {
+    
+    static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    
+    private RankKey() {
+    }
+    
+    /**
+     * A key strictly between {@code before} and {@code after}. Either may be null
+     * for the start or end of the list.
+     *
+     * @throws IllegalArgumentException if {@code before} is not less than {@code after}
+     */
+    public static String between(String before, String after) {
+        String lower = before != null ? before : "";
+        validate(lower);
+        if (after != null) {
+            validate(after);
+            if (lower.compareTo(after) >= 0) {
+                throw new IllegalArgumentException("Rank " + before + " is not before " + after);
+            }
+        }
+        return midpoint(lower, after);
+    }
+    
+    /**
+     * {@code count} evenly spaced keys in ascending order, as short as the count
+     * allows, for rebalancing a list.
+     */
+    public static List<String> sequence(int count) {
+        int length = 1;
+        long slots = BASE;
+        while (slots <= count) {
+            length++;
+            slots *= BASE;
+        }
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            keys.add(stripTrailingZeros(toDigits(i * slots / (count + 1), length)));
+        }
+        return keys;
+    }
+    
+    // lower is "" for the start of the list, upper null for its end
+    private static String midpoint(String lower, String upper) {
+        if (upper != null) {
+            // Copy the shared prefix, treating missing lower digits as '0'
+            int shared = 0;
+            while (shared < upper.length() && digitAt(lower, shared) == DIGITS.indexOf(upper.charAt(shared))) {
+                shared++;
+            }
+            if (shared > 0) {
+                return upper.substring(0, shared)
+                        + midpoint(lower.substring(Math.min(shared, lower.length())), upper.substring(shared));
+            }
+        }
+        int low = digitAt(lower, 0);
+        int high = upper != null ? DIGITS.indexOf(upper.charAt(0)) : BASE;
+        if (high - low > 1) {
+            return String.valueOf(DIGITS.charAt((low + high + 1) / 2));
+        }
+        if (upper != null && upper.length() > 1) {
+            // upper's first digit on its own is less than upper but more than lower
+            return upper.substring(0, 1);
+        }
+        return DIGITS.charAt(low) + midpoint(lower.isEmpty() ? "" : lower.substring(1), null);
+    }
+    
+    private static int digitAt(String key, int index) {
+        return index < key.length() ? DIGITS.indexOf(key.charAt(index)) : 0;
+    }
+    
+    private static String toDigits(long value, int length) {
+        char[] digits = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return new String(digits);
+    }
+    
+    private static String stripTrailingZeros(String key) {
+        int end = key.length();
+        while (end > 0 && key.charAt(end - 1) == '0') {
+            end--;
+        }
+        return key.substring(0, end);
+    }
+    
+    private static void validate(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid rank: " + key);
+            }
+        }
+        if (!key.isEmpty() && key.charAt(key.length() - 1) == '0') {
+            throw new IllegalArgumentException("Invalid rank: " + key);
+        }
+    }
+}
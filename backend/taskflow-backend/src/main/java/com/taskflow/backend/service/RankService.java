@@ -0,0 +1,391 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.event.BoardChangeEvent;
+import com.taskflow.backend.exception.BadRequestException;
+import com.taskflow.backend.model.Board;
+import com.taskflow.backend.model.Column;
+import com.taskflow.backend.model.Ranked;
+import com.taskflow.backend.model.Task;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps tasks within a column and columns within a board in their manual
+ * order using {@link RankKey}s. Placing an item reads at most two neighbours
+ * and writes only the item itself, however long the list is.
+ *
+ * <p>A list is rebalanced (given fresh, evenly spaced keys) in the background
+ * once a key grows past {@code taskflow.ordering.rebalance-length} characters,
+ * and right away when the neighbours of a placement have no usable keys: not
+ * yet migrated, or equal after two concurrent moves to the same spot. Neighbours
+ * from another list or in the wrong order are rejected without rebalancing.
+ * Rebalancing also folds the legacy Column.taskIds and Board.columnOrder lists
+ * into the keys; at startup every list that still has one is migrated.
+ */
+@Service
+public class RankService {
+
+    private static final Logger log = LoggerFactory.getLogger(RankService.class);
+
+    static final String BACKFILL = "ranks";
+
+    private static final Comparator<Task> TASK_LEGACY_ORDER =
+            Comparator.comparing(Task::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+    private static final Comparator<Column> COLUMN_LEGACY_ORDER = Comparator.comparingInt(Column::getPosition);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private BackfillTracker backfillTracker;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Value("${taskflow.ordering.rebalance-length:12}")
+    private int rebalanceLength;
+
+    private final Set<String> pendingRebalances = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The rank for placing {@code taskId} in {@code columnId}: directly after
+     * {@code afterId} and/or before {@code beforeId} when given, otherwise at
+     * {@code index}, otherwise at the end of the column. {@code taskId} is
+     * null for a task that is not saved yet.
+     */
+    public String rankForTask(String columnId, String taskId, Integer index, String afterId, String beforeId) {
+        return rankFor(Task.class, "columnId", columnId, taskId, index, afterId, beforeId);
+    }
+
+    public String rankForColumn(String boardId, String columnId, Integer index, String afterId, String beforeId) {
+        return rankFor(Column.class, "boardId", boardId, columnId, index, afterId, beforeId);
+    }
+
+    /**
+     * Moves a column within its board, writing only the column's rank.
+     */
+    public Optional<Column> moveColumn(String columnId, Integer index, String afterId, String beforeId) {
+        Query columnQuery = Query.query(Criteria.where("_id").is(columnId));
+        columnQuery.fields().include("boardId");
+        Column current = mongoTemplate.findOne(columnQuery, Column.class);
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        String rank = rankForColumn(current.getBoardId(), columnId, index, afterId, beforeId);
+        Update update = new Update()
+                .set("rank", rank)
+                .set("updatedAt", LocalDateTime.now())
+                .inc("version", 1);
+        Column moved = mongoTemplate.findAndModify(Query.query(Criteria.where("_id").is(columnId)), update,
+                FindAndModifyOptions.options().returnNew(true), Column.class);
+        if (moved != null) {
+            eventPublisher.publishEvent(new BoardChangeEvent(moved.getBoardId(), BoardChangeEvent.EntityType.COLUMN,
+                    BoardChangeEvent.Action.MOVED, moved.getId(), moved));
+        }
+        return Optional.ofNullable(moved);
+    }
+
+    /**
+     * Puts every task of a column in the given order (tasks not listed keep
+     * their relative order after the listed ones). Rewrites all ranks, so
+     * single moves should use {@link TaskMoveService#moveTask} instead.
+     */
+    public Optional<Column> reorderTasks(String columnId, List<String> taskIds) {
+        if (!mongoTemplate.exists(Query.query(Criteria.where("_id").is(columnId)), Column.class)) {
+            return Optional.empty();
+        }
+        rebalanceTasks(columnId, taskIds);
+        return Optional.ofNullable(mongoTemplate.findById(columnId, Column.class));
+    }
+
+    /**
+     * Puts every column of a board in the given order, like {@link #reorderTasks}.
+     */
+    public Optional<Board> reorderColumns(String boardId, List<String> columnIds) {
+        if (!mongoTemplate.exists(Query.query(Criteria.where("_id").is(boardId)), Board.class)) {
+            return Optional.empty();
+        }
+        rebalanceColumns(boardId, columnIds);
+        return Optional.ofNullable(mongoTemplate.findById(boardId, Board.class));
+    }
+
+    // Migrates the legacy order lists once the application is up, on a daemon
+    // thread like the index initializer; each list is migrated independently.
+    // The rank-less lookups have no index, so after one complete pass they are
+    // not repeated: lists placed since then have keys, and any missed one is
+    // migrated when next reordered
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread worker = new Thread(this::backfill, "rank-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void backfill() {
+        if (backfillTracker.isDone(BACKFILL)) {
+            return;
+        }
+        try {
+            Set<String> columnIds = new LinkedHashSet<>(idsWhere(Criteria.where("taskIds").exists(true), Column.class));
+            columnIds.addAll(mongoTemplate.findDistinct(
+                    Query.query(Criteria.where("rank").is(null)), "columnId", Task.class, String.class));
+            Set<String> boardIds = new LinkedHashSet<>(idsWhere(Criteria.where("columnOrder").exists(true), Board.class));
+            boardIds.addAll(mongoTemplate.findDistinct(
+                    Query.query(Criteria.where("rank").is(null)), "boardId", Column.class, String.class));
+
+            columnIds.stream().filter(id -> id != null).forEach(id -> rebalanceTasks(id, null));
+            boardIds.stream().filter(id -> id != null).forEach(id -> rebalanceColumns(id, null));
+            if (!columnIds.isEmpty() || !boardIds.isEmpty()) {
+                log.info("Assigned ranks to the tasks of {} columns and the columns of {} boards",
+                        columnIds.size(), boardIds.size());
+            }
+            backfillTracker.markDone(BACKFILL);
+        } catch (RuntimeException e) {
+            log.warn("Rank backfill failed; lists are migrated when next reordered", e);
+        }
+    }
+
+    private List<String> idsWhere(Criteria criteria, Class<?> type) {
+        Query query = Query.query(criteria);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(type)).stream()
+                .map(document -> document.get("_id").toString())
+                .toList();
+    }
+
+    void rebalanceTasks(String columnId, List<String> explicitOrder) {
+        Query columnQuery = Query.query(Criteria.where("_id").is(columnId));
+        columnQuery.fields().include("boardId").include("taskIds");
+        Column column = mongoTemplate.findOne(columnQuery, Column.class);
+        if (column == null) {
+            return;
+        }
+        List<String> order = explicitOrder != null ? explicitOrder : column.getTaskIds();
+
+        Query tasksQuery = Query.query(Criteria.where("columnId").is(columnId));
+        tasksQuery.fields().include("rank").include("createdAt");
+        rerank(Task.class, mongoTemplate.find(tasksQuery, Task.class), order, TASK_LEGACY_ORDER);
+
+        if (column.getTaskIds() != null) {
+            mongoTemplate.updateFirst(columnQuery, new Update().unset("taskIds").inc("version", 1), Column.class);
+        }
+        Column updated = mongoTemplate.findById(columnId, Column.class);
+        if (updated != null) {
+            // Tells clients to reload the column's tasks
+            eventPublisher.publishEvent(new BoardChangeEvent(updated.getBoardId(), BoardChangeEvent.EntityType.COLUMN,
+                    BoardChangeEvent.Action.UPDATED, columnId, updated));
+        }
+    }
+
+    void rebalanceColumns(String boardId, List<String> explicitOrder) {
+        Query boardQuery = Query.query(Criteria.where("_id").is(boardId));
+        boardQuery.fields().include("columnOrder");
+        Board board = mongoTemplate.findOne(boardQuery, Board.class);
+        if (board == null) {
+            return;
+        }
+        List<String> order = explicitOrder != null ? explicitOrder : board.getColumnOrder();
+
+        Query columnsQuery = Query.query(Criteria.where("boardId").is(boardId));
+        columnsQuery.fields().include("rank").include("position");
+        rerank(Column.class, mongoTemplate.find(columnsQuery, Column.class), order, COLUMN_LEGACY_ORDER);
+
+        if (board.getColumnOrder() != null) {
+            mongoTemplate.updateFirst(boardQuery, new Update().unset("columnOrder").inc("version", 1), Board.class);
+        }
+        Board updated = mongoTemplate.findById(boardId, Board.class);
+        if (updated != null) {
+            // Tells clients to reload the board's columns
+            eventPublisher.publishEvent(new BoardChangeEvent(boardId, BoardChangeEvent.EntityType.BOARD,
+                    BoardChangeEvent.Action.UPDATED, boardId, updated));
+        }
+    }
+
+    private <T extends Ranked> String rankFor(Class<T> type, String scopeField, String scopeId, String itemId,
+                                              Integer index, String afterId, String beforeId) {
+        String[] bounds = neighbourRanks(type, scopeField, scopeId, itemId, index, afterId, beforeId);
+        if (!usable(bounds)) {
+            rebalance(type, scopeId);
+            bounds = neighbourRanks(type, scopeField, scopeId, itemId, index, afterId, beforeId);
+            if (!usable(bounds)) {
+                throw new IllegalStateException("No rank available in " + scopeField + " " + scopeId);
+            }
+        }
+        String rank = RankKey.between(bounds[0], bounds[1]);
+        if (rank.length() > rebalanceLength) {
+            scheduleRebalance(type, scopeId);
+        }
+        return rank;
+    }
+
+    // Ranks of the items the placed item goes between; null for the start or end
+    // of the list. Entries holding "" belong to items that have no rank yet.
+    private <T extends Ranked> String[] neighbourRanks(Class<T> type, String scopeField, String scopeId,
+                                                       String itemId, Integer index, String afterId, String beforeId) {
+        if ((afterId != null && afterId.equals(beforeId))
+                || (itemId != null && (itemId.equals(afterId) || itemId.equals(beforeId)))) {
+            throw new BadRequestException("Cannot place an item next to itself");
+        }
+
+        if (afterId != null || beforeId != null) {
+            String lower = afterId != null ? rankOf(type, scopeField, scopeId, afterId) : null;
+            String upper = beforeId != null ? rankOf(type, scopeField, scopeId, beforeId) : null;
+            // Equal keys are a concurrent-move collision a rebalance resolves; inverted ones are a client error
+            if (lower != null && upper != null && !lower.isEmpty() && !upper.isEmpty() && lower.compareTo(upper) > 0) {
+                throw new BadRequestException(afterId + " does not come before " + beforeId);
+            }
+            if (beforeId == null && !lower.isEmpty()) {
+                upper = firstRank(type, Query.query(others(scopeField, scopeId, itemId).and("rank").gt(lower)),
+                        Sort.Direction.ASC);
+            } else if (afterId == null && !upper.isEmpty()) {
+                lower = firstRank(type, Query.query(others(scopeField, scopeId, itemId).and("rank").lt(upper)),
+                        Sort.Direction.DESC);
+            }
+            return new String[] {lower, upper};
+        }
+
+        if (index != null) {
+            Query query = Query.query(others(scopeField, scopeId, itemId))
+                    .with(Sort.by("rank", "_id"))
+                    .skip(Math.max(index - 1, 0))
+                    .limit(index == 0 ? 1 : 2);
+            query.fields().include("rank");
+            List<T> window = mongoTemplate.find(query, type);
+            if (index == 0) {
+                return new String[] {null, window.isEmpty() ? null : rankOrEmpty(window.get(0))};
+            }
+            if (!window.isEmpty()) {
+                return new String[] {rankOrEmpty(window.get(0)), window.size() > 1 ? rankOrEmpty(window.get(1)) : null};
+            }
+            // Past the end of the list
+        }
+        return new String[] {firstRank(type, Query.query(others(scopeField, scopeId, itemId)), Sort.Direction.DESC), null};
+    }
+
+    // The other items of the list; itemId is null for an item not saved yet
+    private Criteria others(String scopeField, String scopeId, String itemId) {
+        Criteria criteria = Criteria.where(scopeField).is(scopeId);
+        return itemId != null ? criteria.and("_id").ne(itemId) : criteria;
+    }
+
+    private <T extends Ranked> String rankOf(Class<T> type, String scopeField, String scopeId, String id) {
+        Query query = Query.query(Criteria.where("_id").is(id).and(scopeField).is(scopeId));
+        query.fields().include("rank");
+        T item = mongoTemplate.findOne(query, type);
+        if (item == null) {
+            throw new BadRequestException(id + " is not in the same list");
+        }
+        return rankOrEmpty(item);
+    }
+
+    private <T extends Ranked> String firstRank(Class<T> type, Query query, Sort.Direction direction) {
+        query.with(Sort.by(direction, "rank", "_id")).limit(1);
+        query.fields().include("rank");
+        T item = mongoTemplate.findOne(query, type);
+        return item != null ? rankOrEmpty(item) : null;
+    }
+
+    private String rankOrEmpty(Ranked item) {
+        return item.getRank() != null ? item.getRank() : "";
+    }
+
+    private boolean usable(String[] bounds) {
+        String lower = bounds[0];
+        String upper = bounds[1];
+        if ("".equals(lower) || "".equals(upper)) {
+            return false;
+        }
+        return lower == null || upper == null || lower.compareTo(upper) < 0;
+    }
+
+    private void rebalance(Class<? extends Ranked> type, String scopeId) {
+        if (type == Task.class) {
+            rebalanceTasks(scopeId, null);
+        } else {
+            rebalanceColumns(scopeId, null);
+        }
+    }
+
+    private void scheduleRebalance(Class<? extends Ranked> type, String scopeId) {
+        String key = type.getSimpleName() + ":" + scopeId;
+        if (!pendingRebalances.add(key)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    rebalance(type, scopeId);
+                } finally {
+                    pendingRebalances.remove(key);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            pendingRebalances.remove(key);
+        }
+    }
+
+    // Listed items first, then the rest by their current rank and legacy order.
+    // Each write is conditional on the rank read here, so an item moved in the
+    // meantime keeps its new place instead of being overwritten.
+    private <T extends Ranked> void rerank(Class<T> type, List<T> items, List<String> order,
+                                           Comparator<T> legacyOrder) {
+        Map<String, Integer> listed = new HashMap<>();
+        if (order != null) {
+            for (int i = 0; i < order.size(); i++) {
+                listed.putIfAbsent(order.get(i), i);
+            }
+        }
+        items.sort(Comparator.<T, Integer>comparing(item -> listed.getOrDefault(item.getId(), Integer.MAX_VALUE))
+                .thenComparing(Ranked::getRank, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(legacyOrder)
+                .thenComparing(Ranked::getId));
+
+        List<String> ranks = RankKey.sequence(items.size());
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+        int changed = 0;
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            if (ranks.get(i).equals(item.getRank())) {
+                continue;
+            }
+            bulk.updateOne(Query.query(Criteria.where("_id").is(item.getId()).and("rank").is(item.getRank())),
+                    new Update().set("rank", ranks.get(i)).inc("version", 1));
+            changed++;
+        }
+        if (changed > 0) {
+            bulk.execute();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.model.Task;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits task text into the trigrams stored in {@code Task.searchGrams}.
+ * Words are lower-cased, stripped of accents and padded as "  word ", so a
+ * word shares its leading grams with every prefix of it and most of its grams
+ * with a misspelling of it. Title grams are stored a second time behind
+ * {@link #TITLE} so that a match in the title counts twice.
+ */
+final class SearchTerms {
+
+    static final String TITLE = "^";
+
+    // Share of a term's grams a word needs to count as a misspelling of it
+    static final double MIN_SIMILARITY = 0.4;
+
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+
+    private SearchTerms() {
+    }
+
+    record Token(int start, int end, String word) {
+    }
+
+    static List<String> grams(Task task) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(task.getTitle())) {
+            for (String gram : grams(word, true)) {
+                grams.add(gram);
+                grams.add(TITLE + gram);
+            }
+        }
+        addGrams(grams, task.getDescription());
+        if (task.getLabels() != null) {
+            task.getLabels().forEach(label -> addGrams(grams, label.getName()));
+        }
+        if (task.getChecklist() != null) {
+            task.getChecklist().forEach(item -> addGrams(grams, item.getText()));
+        }
+        return new ArrayList<>(grams);
+    }
+
+    private static void addGrams(Set<String> grams, String text) {
+        for (String word : words(text)) {
+            grams.addAll(grams(word, true));
+        }
+    }
+
+    /**
+     * Grams of one normalized word. An incomplete word (the one still being
+     * typed) has no trailing pad, so it matches any word it is a prefix of.
+     */
+    static Set<String> grams(String word, boolean complete) {
+        String padded = "  " + word + (complete ? " " : "");
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * The grams to look a query up by: all but the padded leading ones, which a
+     * word shares with every word starting with the same letter or two. A query
+     * of words too short to have any others keeps them.
+     */
+    static List<String> lookupGrams(Collection<String> grams) {
+        List<String> inner = grams.stream().filter(gram -> gram.charAt(0) != ' ').toList();
+        return inner.isEmpty() ? new ArrayList<>(grams) : inner;
+    }
+
+    static List<String> words(String text) {
+        return tokens(text).stream().map(Token::word).toList();
+    }
+
+    // Words with their offsets in the original text, for highlighting
+    static List<Token> tokens(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(new Token(start, i, normalize(text.substring(start, i))));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    static String normalize(String word) {
+        String decomposed = Normalizer.normalize(word, Normalizer.Form.NFD);
+        return ACCENTS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Whether a normalized word is what a query term asked for: the term is a
+     * prefix of it, or the word has enough of the term's grams to be a typo.
+     * Terms shorter than four letters only match as prefixes; a single letter
+     * off is too large a share of them.
+     */
+    static boolean matches(String word, String term, boolean complete) {
+        if (word.startsWith(term)) {
+            return true;
+        }
+        if (term.length() < 4) {
+            return false;
+        }
+        Set<String> termGrams = grams(term, complete);
+        Set<String> wordGrams = grams(word, true);
+        long shared = termGrams.stream().filter(wordGrams::contains).count();
+        return shared >= Math.ceil(termGrams.size() * MIN_SIMILARITY);
+    }
+}
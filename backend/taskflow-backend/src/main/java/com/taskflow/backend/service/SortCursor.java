@@ -0,0 +1,58 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque page cursor for listings ordered by a date field that may be unset,
+ * then id, in either direction. MongoDB sorts unset values before any date,
+ * and so does the cursor.
+ */
+record SortCursor(String field, LocalDateTime value, String id) {
+
+    static Sort sort(String field, Sort.Direction direction) {
+        return Sort.by(direction, field).and(Sort.by(direction, "_id"));
+    }
+
+    // Documents strictly after this position in sort(field, direction) order;
+    // a range on a date never matches unset values, so those are listed apart
+    Criteria after(Sort.Direction direction) {
+        Criteria sameValueLaterId = Criteria.where(field).is(value).and("_id");
+        if (direction.isAscending()) {
+            sameValueLaterId.gt(KeysetCursor.storedId(id));
+            Criteria laterValue = value == null ? Criteria.where(field).ne(null) : Criteria.where(field).gt(value);
+            return new Criteria().orOperator(laterValue, sameValueLaterId);
+        }
+        sameValueLaterId.lt(KeysetCursor.storedId(id));
+        if (value == null) {
+            return sameValueLaterId;
+        }
+        return new Criteria().orOperator(Criteria.where(field).lt(value), Criteria.where(field).is(null),
+                sameValueLaterId);
+    }
+
+    String encode() {
+        String raw = field + "|" + (value != null ? value : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // The cursor must come from a listing sorted by the same field
+    static SortCursor decode(String value, String field) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3 || !parts[0].equals(field)) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            LocalDateTime sortValue = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            return new SortCursor(field, sortValue, parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.dto.MoveTaskRequest;
+import com.taskflow.backend.event.BoardChangeEvent;
+import com.taskflow.backend.exception.ResourceNotFoundException;
+import com.taskflow.backend.model.Column;
+import com.taskflow.backend.model.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+public class TaskMoveService {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RankService rankService;
+
+    @Autowired
+    private ColumnTaskCountService columnTaskCountService;
+
+    @Autowired
+    private BoardAnalyticsService boardAnalyticsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Moves a task to the requested column and place (see
+     * {@link RankService#rankForTask}). A move to another column first takes a
+     * place in it, which fails when the column is at its WIP limit; the task
+     * document is then written: its column, rank and timestamp. The update
+     * returns the task as it was, so the column it actually left is the one
+     * given back its place and recorded by the analytics, even when moves race.
+     */
+    public Optional<Task> moveTask(String taskId, MoveTaskRequest request) {
+        Query taskQuery = Query.query(Criteria.where("_id").is(taskId));
+        taskQuery.fields().include("columnId").include("boardId");
+        Task current = mongoTemplate.findOne(taskQuery, Task.class);
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        String targetColumnId = request.getColumnId();
+        boolean reserved = !targetColumnId.equals(current.getColumnId());
+        if (reserved) {
+            // Also fails when the column is not on the task's board
+            columnTaskCountService.reserve(targetColumnId, current.getBoardId());
+        } else if (!mongoTemplate.exists(Query.query(Criteria.where("_id").is(targetColumnId)), Column.class)) {
+            throw new ResourceNotFoundException("Column not found: " + targetColumnId);
+        }
+
+        String rank;
+        Task moved;
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            rank = rankService.rankForTask(targetColumnId, taskId, request.getIndex(),
+                    request.getAfterId(), request.getBeforeId());
+            Update update = new Update()
+                    .set("columnId", targetColumnId)
+                    .set("rank", rank)
+                    .set("updatedAt", now)
+                    .inc("version", 1);
+            moved = mongoTemplate.findAndModify(
+                    Query.query(Criteria.where("_id").is(taskId)),
+                    update,
+                    FindAndModifyOptions.options().returnNew(false),
+                    Task.class);
+        } catch (RuntimeException e) {
+            if (reserved) {
+                columnTaskCountService.release(targetColumnId);
+            }
+            throw e;
+        }
+        if (moved == null) {
+            if (reserved) {
+                columnTaskCountService.release(targetColumnId);
+            }
+            return Optional.empty();
+        }
+        String fromColumnId = moved.getColumnId();
+        if (!targetColumnId.equals(fromColumnId)) {
+            if (!reserved) {
+                columnTaskCountService.add(targetColumnId); // a racing move took it out in between
+            }
+            columnTaskCountService.release(fromColumnId);
+        } else if (reserved) {
+            columnTaskCountService.release(targetColumnId); // a racing move got it here first
+        }
+        moved.setColumnId(targetColumnId);
+        moved.setRank(rank);
+        moved.setUpdatedAt(now);
+        moved.setVersion(moved.getVersion() != null ? moved.getVersion() + 1 : 1);
+
+        boardAnalyticsService.recordTransition(moved, fromColumnId, moved.getStatus());
+        eventPublisher.publishEvent(new BoardChangeEvent(moved.getBoardId(), BoardChangeEvent.EntityType.TASK,
+                BoardChangeEvent.Action.MOVED, moved.getId(), moved));
+        return Optional.of(moved);
+    }
+}
@@ -0,0 +1,201 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.dto.TaskPage;
+import com.taskflow.backend.dto.TaskQuery;
+import com.taskflow.backend.exception.BadRequestException;
+import com.taskflow.backend.model.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class TaskPageService {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private static final Set<String> SELECTABLE_FIELDS = Set.of(
+            "title", "description", "columnId", "boardId", "assigneeId", "priority", "status",
+            "dueDate", "labels", "checklist", "attachments", "createdAt", "updatedAt");
+
+    private static final Set<String> SORTABLE_FIELDS = Set.of("dueDate", "createdAt");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private TaskQueryGuard taskQueryGuard;
+
+    public TaskPage findByBoard(String boardId, String cursor, Integer limit, List<String> fields) {
+        return findPage(Criteria.where("boardId").is(boardId), cursor, limit, fields);
+    }
+
+    public TaskPage findByColumn(String columnId, String cursor, Integer limit, List<String> fields) {
+        return findPage(Criteria.where("columnId").is(columnId), cursor, limit, fields);
+    }
+
+    /**
+     * Keyset page ordered by (createdAt, id). Fetches one extra document to know
+     * whether another page exists, and only loads the requested fields when a
+     * projection is given.
+     */
+    private TaskPage findPage(Criteria scope, String cursor, Integer limit, List<String> fields) {
+        int pageSize = KeysetCursor.pageSize(limit, DEFAULT_LIMIT, MAX_LIMIT);
+
+        Criteria criteria = scope;
+        if (cursor != null && !cursor.isBlank()) {
+            criteria = new Criteria().andOperator(scope, KeysetCursor.decode(cursor).after());
+        }
+
+        Query query = Query.query(criteria)
+                .with(KeysetCursor.SORT)
+                .limit(pageSize + 1);
+        applyProjection(query, fields, "createdAt");
+
+        List<Task> tasks = mongoTemplate.find(query, Task.class);
+        if (fields != null && !fields.isEmpty()) {
+            tasks.forEach(task -> clearUnselectedDefaults(task, fields));
+        }
+        String nextCursor = null;
+        if (tasks.size() > pageSize) {
+            tasks = tasks.subList(0, pageSize);
+            Task last = tasks.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new TaskPage(tasks, nextCursor);
+    }
+
+    /**
+     * Filtered listing for GET /tasks, in (sort field, id) keyset pages. The
+     * filters and sort must match an index on Task (see {@link TaskQueryGuard});
+     * dueBefore, dueAfter and overdue are ranges, so they need the dueDate sort.
+     */
+    public TaskPage query(TaskQuery filter, String cursor, Integer limit, List<String> fields) {
+        int pageSize = KeysetCursor.pageSize(limit, DEFAULT_LIMIT, MAX_LIMIT);
+        String sort = filter.getSort() != null ? filter.getSort() : "dueDate";
+        Sort.Direction direction = sort.startsWith("-") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        String sortField = sort.startsWith("-") ? sort.substring(1) : sort;
+        if (!SORTABLE_FIELDS.contains(sortField)) {
+            throw new BadRequestException("Tasks can be sorted by " + SORTABLE_FIELDS + ", not " + sortField);
+        }
+
+        Set<String> equalityFields = new LinkedHashSet<>();
+        List<Criteria> criteria = new ArrayList<>();
+        equal(criteria, equalityFields, "boardId", filter.getBoardId());
+        equal(criteria, equalityFields, "columnId", filter.getColumnId());
+        equal(criteria, equalityFields, "assigneeId", filter.getAssigneeId());
+        equal(criteria, equalityFields, "labels.name", filter.getLabel());
+        List<Task.TaskStatus> statuses = filter.getStatus();
+        if (filter.isOverdue() && statuses != null && !statuses.isEmpty()) {
+            statuses = statuses.stream().filter(status -> status != Task.TaskStatus.DONE).toList();
+            if (statuses.isEmpty()) {
+                return new TaskPage(List.of(), null);
+            }
+        }
+        anyOf(criteria, equalityFields, "status", statuses);
+        anyOf(criteria, equalityFields, "priority", filter.getPriority());
+
+        LocalDateTime dueBefore = filter.getDueBefore();
+        if (filter.isOverdue()) {
+            LocalDateTime now = LocalDateTime.now();
+            dueBefore = dueBefore == null || now.isBefore(dueBefore) ? now : dueBefore;
+            if (filter.getStatus() == null || filter.getStatus().isEmpty()) {
+                // Not an index key; only drops entries from the range that is read
+                criteria.add(Criteria.where("status").ne(Task.TaskStatus.DONE));
+            }
+        }
+        if (dueBefore != null || filter.getDueAfter() != null) {
+            if (!sortField.equals("dueDate")) {
+                throw new BadRequestException("dueBefore, dueAfter and overdue need sort=dueDate");
+            }
+            Criteria due = Criteria.where("dueDate");
+            if (dueBefore != null) {
+                due.lt(dueBefore);
+            }
+            if (filter.getDueAfter() != null) {
+                due.gte(filter.getDueAfter());
+            }
+            criteria.add(due);
+        }
+        taskQueryGuard.check(equalityFields, sortField);
+
+        if (cursor != null && !cursor.isBlank()) {
+            criteria.add(SortCursor.decode(cursor, sortField).after(direction));
+        }
+        Query query = Query.query(new Criteria().andOperator(criteria))
+                .with(SortCursor.sort(sortField, direction))
+                .limit(pageSize + 1);
+        applyProjection(query, fields, sortField);
+
+        List<Task> tasks = mongoTemplate.find(query, Task.class);
+        if (fields != null && !fields.isEmpty()) {
+            tasks.forEach(task -> clearUnselectedDefaults(task, fields));
+        }
+        String nextCursor = null;
+        if (tasks.size() > pageSize) {
+            tasks = tasks.subList(0, pageSize);
+            Task last = tasks.get(pageSize - 1);
+            LocalDateTime value = sortField.equals("dueDate") ? last.getDueDate() : last.getCreatedAt();
+            nextCursor = new SortCursor(sortField, value, last.getId()).encode();
+        }
+        return new TaskPage(tasks, nextCursor);
+    }
+
+    private void equal(List<Criteria> criteria, Set<String> equalityFields, String field, String value) {
+        if (value != null) {
+            criteria.add(Criteria.where(field).is(value));
+            equalityFields.add(field);
+        }
+    }
+
+    // A list of values is still an equality on the index key; the server merges
+    // the sorted runs of each value
+    private void anyOf(List<Criteria> criteria, Set<String> equalityFields, String field, List<?> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        criteria.add(values.size() == 1 ? Criteria.where(field).is(values.get(0)) : Criteria.where(field).in(values));
+        equalityFields.add(field);
+    }
+
+    private void applyProjection(Query query, List<String> fields, String sortField) {
+        if (fields == null || fields.isEmpty()) {
+            query.fields().exclude("searchGrams"); // never serialized
+            return;
+        }
+        for (String field : fields) {
+            if (field.equals("comments")) {
+                throw new BadRequestException("Comments are not part of a task; list them with GET /tasks/{id}/comments");
+            }
+            if (!SELECTABLE_FIELDS.contains(field)) {
+                throw new BadRequestException("Unknown task field: " + field);
+            }
+            query.fields().include(field);
+        }
+        // The cursor is built from these, so they are always returned
+        query.fields().include("_id").include("createdAt").include(sortField);
+    }
+
+    // Task's constructor fills in defaults; a projected read must not report
+    // them as if they had been loaded
+    private void clearUnselectedDefaults(Task task, List<String> fields) {
+        if (!fields.contains("priority")) {
+            task.setPriority(null);
+        }
+        if (!fields.contains("status")) {
+            task.setStatus(null);
+        }
+        if (!fields.contains("updatedAt")) {
+            task.setUpdatedAt(null);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.exception.BadRequestException;
+import com.taskflow.backend.model.Task;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Admits a filtered task listing only when one of the indexes declared on
+ * {@link Task} serves it completely: the equality filters are exactly the
+ * index's leading keys, in any order, followed by the sort field and _id.
+ * Such a query reads the index entries of the page it returns and nothing
+ * else; any other combination would scan a board or sort it in memory, so it
+ * is rejected instead of getting slower as boards grow. Declaring another
+ * compound index on Task makes its shape available here.
+ */
+@Service
+public class TaskQueryGuard {
+
+    private final List<List<String>> indexKeys = new ArrayList<>();
+
+    public TaskQueryGuard(MongoTemplate mongoTemplate) {
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        for (IndexDefinition index : resolver.resolveIndexFor(TypeInformation.of(Task.class))) {
+            indexKeys.add(new ArrayList<>(index.getIndexKeys().keySet()));
+        }
+    }
+
+    public void check(Set<String> equalityFields, String sortField) {
+        for (List<String> keys : indexKeys) {
+            if (serves(keys, equalityFields, sortField)) {
+                return;
+            }
+        }
+        throw new BadRequestException("No index serves filtering on " + equalityFields + " sorted by " + sortField
+                + "; filters supported with this sort: " + supported(sortField));
+    }
+
+    private boolean serves(List<String> keys, Set<String> equalityFields, String sortField) {
+        int prefix = equalityFields.size();
+        return keys.size() > prefix + 1
+                && new HashSet<>(keys.subList(0, prefix)).equals(equalityFields)
+                && keys.get(prefix).equals(sortField)
+                && keys.get(prefix + 1).equals("_id");
+    }
+
+    // e.g. "boardId+priority, assigneeId"
+    private String supported(String sortField) {
+        return indexKeys.stream()
+                .filter(keys -> keys.indexOf("_id") > 1 && keys.get(keys.indexOf("_id") - 1).equals(sortField))
+                .map(keys -> String.join("+", keys.subList(0, keys.indexOf("_id") - 1)))
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,132 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.model.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Keeps {@code Task.searchGrams} in step with the task's text. Full saves get
+ * their grams computed just before the document is written. Partial updates
+ * that change text (checklist edits) call {@link #reindexLater} afterwards,
+ * which reindexes off the request thread and only writes grams computed from
+ * the version it read, so a reindex that lost a race never overwrites fresher
+ * grams.
+ */
+@Service
+public class TaskSearchIndexer extends AbstractMongoEventListener<Task> {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndexer.class);
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    private final Set<String> pendingReindexes = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Task> event) {
+        Task task = event.getSource();
+        task.setSearchGrams(SearchTerms.grams(task));
+    }
+
+    /**
+     * Reindexes the task on the application executor. A reindex that has not
+     * started yet reads every edit made before it, so a burst of edits to one
+     * task is indexed with one read and one write.
+     */
+    public void reindexLater(String taskId) {
+        if (!pendingReindexes.add(taskId)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                pendingReindexes.remove(taskId); // edits from here on need a reindex of their own
+                try {
+                    reindex(taskId);
+                } catch (RuntimeException e) {
+                    log.warn("Reindexing task {} failed; left for its next save", taskId, e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            pendingReindexes.remove(taskId);
+            reindex(taskId);
+        }
+    }
+
+    void reindex(String taskId) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Query query = Query.query(Criteria.where("_id").is(taskId));
+            textFields(query);
+            Task task = mongoTemplate.findOne(query, Task.class);
+            if (task == null || index(task)) {
+                return;
+            }
+        }
+        log.debug("Task {} kept changing while being reindexed; left for its next save", taskId);
+    }
+
+    // Indexes tasks saved before search existed, on a daemon thread like the
+    // rank backfill; a failure leaves the rest for their next save
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread worker = new Thread(this::backfill, "search-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void backfill() {
+        Query query = Query.query(Criteria.where("searchGrams").exists(false));
+        textFields(query);
+        int indexed = 0;
+        try (Stream<Task> tasks = mongoTemplate.stream(query, Task.class)) {
+            for (Task task : (Iterable<Task>) tasks::iterator) {
+                if (index(task)) {
+                    indexed++;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Search backfill failed after {} tasks; the rest are indexed when next saved", indexed, e);
+            return;
+        }
+        if (indexed > 0) {
+            log.info("Indexed {} tasks for search", indexed);
+        }
+    }
+
+    // Writes grams for the text that was read, unless the task has changed since.
+    // Updated by collection name: an update typed to Task would also increment
+    // its version, and derived grams are no change to the task
+    private boolean index(Task task) {
+        Query unchanged = Query.query(Criteria.where("_id").is(task.getId()).and("version").is(task.getVersion()));
+        Update update = new Update().set("searchGrams", SearchTerms.grams(task));
+        return mongoTemplate.updateFirst(unchanged, update, mongoTemplate.getCollectionName(Task.class))
+                .getMatchedCount() > 0;
+    }
+
+    private void textFields(Query query) {
+        query.fields().include("title").include("description").include("labels").include("checklist")
+                .include("version");
+    }
+}
@@ -0,0 +1,205 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.dto.TaskSearchPage;
+import com.taskflow.backend.exception.BadRequestException;
+import com.taskflow.backend.model.Board;
+import com.taskflow.backend.model.Task;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Ranked task search over title, description, label names and checklist
+ * text. Candidates are looked up in the (boardId, searchGrams) index by the
+ * grams past each word's padded start, so a short prefix does not select most
+ * of a board, and kept when they share at least
+ * {@link SearchTerms#MIN_SIMILARITY} of the query's grams, which lets the last
+ * word be a prefix and any word carry a typo. The score
+ * is the number of shared grams, title grams counting twice, and pages are
+ * keyset pages in (score desc, id) order.
+ */
+@Service
+public class TaskSearchService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_TERMS = 8;
+    public static final int MAX_TEXT_LENGTH = 200;
+
+    private static final int EXCERPT_LENGTH = 160;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    public TaskSearchPage searchBoard(String boardId, String text, String cursor, Integer limit) {
+        return search(boardId, parse(text), cursor, limit);
+    }
+
+    // Every board the user owns, archived ones included
+    public TaskSearchPage searchOwner(String ownerId, String text, String cursor, Integer limit) {
+        List<Term> terms = parse(text);
+        Query boards = Query.query(Criteria.where("ownerId").is(ownerId));
+        boards.fields().include("_id");
+        List<String> boardIds = mongoTemplate.find(boards, Board.class).stream().map(Board::getId).toList();
+        if (boardIds.isEmpty()) {
+            return new TaskSearchPage(List.of(), null);
+        }
+        return search(new Document("$in", boardIds), terms, cursor, limit);
+    }
+
+    private TaskSearchPage search(Object boardScope, List<Term> terms, String cursor, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit, DEFAULT_LIMIT, MAX_LIMIT);
+
+        Set<String> distinct = new LinkedHashSet<>();
+        terms.forEach(term -> distinct.addAll(SearchTerms.grams(term.word(), term.complete())));
+        List<String> grams = new ArrayList<>(distinct);
+        List<String> titleGrams = grams.stream().map(gram -> SearchTerms.TITLE + gram).toList();
+        int minShared = (int) Math.ceil(grams.size() * SearchTerms.MIN_SIMILARITY);
+
+        List<Document> stages = new ArrayList<>();
+        stages.add(new Document("$match", new Document("boardId", boardScope)
+                .append("searchGrams", new Document("$in", SearchTerms.lookupGrams(grams)))));
+        stages.add(new Document("$addFields", new Document("shared", shared(grams))
+                .append("sharedInTitle", shared(titleGrams))));
+        stages.add(new Document("$match", new Document("shared", new Document("$gte", minShared))));
+        stages.add(new Document("$addFields",
+                new Document("score", new Document("$add", List.of("$shared", "$sharedInTitle")))));
+        if (cursor != null && !cursor.isBlank()) {
+            stages.add(new Document("$match", SearchCursor.decode(cursor).after()));
+        }
+        stages.add(new Document("$sort", new Document("score", -1).append("_id", 1)));
+        stages.add(new Document("$limit", pageSize + 1));
+        stages.add(new Document("$project",
+                new Document("searchGrams", 0).append("shared", 0).append("sharedInTitle", 0)));
+
+        Aggregation aggregation = Aggregation.newAggregation(stages.stream()
+                .map(stage -> (AggregationOperation) context -> stage)
+                .toList());
+        List<Document> results = mongoTemplate.aggregate(aggregation,
+                mongoTemplate.getCollectionName(Task.class), Document.class).getMappedResults();
+
+        List<TaskSearchPage.Hit> hits = new ArrayList<>();
+        for (Document result : results.subList(0, Math.min(pageSize, results.size()))) {
+            Task task = mongoTemplate.getConverter().read(Task.class, result);
+            int score = ((Number) result.get("score")).intValue();
+            hits.add(new TaskSearchPage.Hit(task, score, highlights(task, terms)));
+        }
+        String nextCursor = null;
+        if (results.size() > pageSize) {
+            TaskSearchPage.Hit last = hits.get(pageSize - 1);
+            nextCursor = new SearchCursor(last.getScore(), last.getTask().getId()).encode();
+        }
+        return new TaskSearchPage(hits, nextCursor);
+    }
+
+    private record Term(String word, boolean complete) {
+    }
+
+    // The last word is still being typed unless the query ends in a separator
+    private List<Term> parse(String text) {
+        if (text.length() > MAX_TEXT_LENGTH) {
+            throw new BadRequestException("Search text may be at most " + MAX_TEXT_LENGTH + " characters");
+        }
+        List<String> words = SearchTerms.words(text);
+        if (words.isEmpty()) {
+            throw new BadRequestException("Search text must contain a letter or digit");
+        }
+        if (words.size() > MAX_TERMS) {
+            throw new BadRequestException("Search text may have at most " + MAX_TERMS + " words");
+        }
+        boolean lastComplete = !Character.isLetterOrDigit(text.charAt(text.length() - 1));
+        List<Term> terms = new ArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            terms.add(new Term(words.get(i), i < words.size() - 1 || lastComplete));
+        }
+        return terms;
+    }
+
+    // Number of the given grams the task has; the list is a literal so that
+    // no gram is read as a field path
+    private static Document shared(List<String> grams) {
+        return new Document("$size", new Document("$setIntersection",
+                List.of("$searchGrams", new Document("$literal", grams))));
+    }
+
+    private List<TaskSearchPage.Highlight> highlights(Task task, List<Term> terms) {
+        List<TaskSearchPage.Highlight> highlights = new ArrayList<>();
+        highlight(highlights, "title", task.getTitle(), terms, false);
+        highlight(highlights, "description", task.getDescription(), terms, true);
+        if (task.getLabels() != null) {
+            task.getLabels().forEach(label -> highlight(highlights, "labels", label.getName(), terms, false));
+        }
+        if (task.getChecklist() != null) {
+            task.getChecklist().forEach(item -> highlight(highlights, "checklist", item.getText(), terms, false));
+        }
+        return highlights;
+    }
+
+    private void highlight(List<TaskSearchPage.Highlight> highlights, String field, String text, List<Term> terms,
+                           boolean excerpt) {
+        List<int[]> matches = new ArrayList<>();
+        for (SearchTerms.Token token : SearchTerms.tokens(text)) {
+            if (terms.stream().anyMatch(term -> SearchTerms.matches(token.word(), term.word(), term.complete()))) {
+                matches.add(new int[] {token.start(), token.end()});
+            }
+        }
+        if (matches.isEmpty()) {
+            return;
+        }
+        if (!excerpt || text.length() <= EXCERPT_LENGTH) {
+            highlights.add(new TaskSearchPage.Highlight(field, text, matches));
+            return;
+        }
+
+        // A window of the text starting shortly before the first match
+        int start = Math.max(0, Math.min(matches.get(0)[0] - EXCERPT_LENGTH / 4, text.length() - EXCERPT_LENGTH));
+        int end = start + EXCERPT_LENGTH;
+        List<int[]> inExcerpt = matches.stream()
+                .filter(match -> match[1] <= end)
+                .map(match -> new int[] {match[0] - start, match[1] - start})
+                .toList();
+        highlights.add(new TaskSearchPage.Highlight(field, text.substring(start, end), inExcerpt));
+    }
+
+    /**
+     * Opaque cursor for search pages ordered by (score desc, id).
+     */
+    private record SearchCursor(int score, String id) {
+
+        // Results strictly after this position; ids are compared as stored
+        Document after() {
+            Object storedId = ObjectId.isValid(id) ? new ObjectId(id) : id;
+            return new Document("$or", List.of(
+                    new Document("score", new Document("$lt", score)),
+                    new Document("score", score).append("_id", new Document("$gt", storedId))));
+        }
+
+        String encode() {
+            String raw = score + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SearchCursor decode(String value) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new SearchCursor(Integer.parseInt(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskflow.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.backend.model.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.stream.Stream;
+
+/**
+ * Writes task lists as a JSON array straight from a Mongo cursor, one task at
+ * a time, so a request holds one cursor batch and the generator's buffer
+ * instead of the whole list and its serialized form.
+ */
+@Service
+public class TaskStreamService {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public StreamingResponseBody streamByBoard(String boardId) {
+        return stream(Query.query(Criteria.where("boardId").is(boardId)));
+    }
+
+    public StreamingResponseBody streamByColumn(String columnId) {
+        return stream(Query.query(Criteria.where("columnId").is(columnId)).with(Sort.by("rank", "_id")));
+    }
+
+    private StreamingResponseBody stream(Query query) {
+        query.fields().exclude("searchGrams"); // never serialized, and larger than the task's text
+        // Flushing after every task would turn each one into its own socket
+        // write (and compressed block); the generator flushes as its buffer fills
+        ObjectWriter writer = objectMapper.writerFor(Task.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        // Runs on the MVC async executor (see AsyncSupportConfig) once the handler has returned; the
+        // cursor is opened there and closed when the array is written
+        return out -> {
+            try (Stream<Task> tasks = mongoTemplate.stream(query, Task.class);
+                 JsonGenerator generator = objectMapper.createGenerator(out)
+                         .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.writeStartArray();
+                for (Task task : (Iterable<Task>) tasks::iterator) {
+                    writer.writeValue(generator, task);
+                }
+                generator.writeEndArray();
+            }
+        };
+    }
+}
@@ -0,0 +1,197 @@
+package com.taskflow.backend.controller;
+
+import com.taskflow.backend.dto.AuthResponse;
+import com.taskflow.backend.exception.ConflictException;
+import com.taskflow.backend.model.Board;
+import com.taskflow.backend.model.Column;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.BoardRepository;
+import com.taskflow.backend.repository.CommentRepository;
+import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.service.BackfillTracker;
+import com.taskflow.backend.service.BoardAnalyticsService;
+import com.taskflow.backend.service.ColumnTaskCountService;
+import com.taskflow.backend.service.CommentService;
+import com.taskflow.backend.service.RankService;
+import com.taskflow.backend.service.TaskSearchService;
+import com.taskflow.backend.support.InMemoryMongo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The WIP-limit bookkeeping around task creates and column changes: a place
+ * taken in a column is given back when the task does not end up there. Also
+ * who may search a board.
+ */
+class TaskControllerTest {
+
+    private static InMemoryMongo mongo;
+
+    private TaskController taskController;
+
+    @BeforeAll
+    static void startMongo() {
+        mongo = new InMemoryMongo();
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        mongo.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongo.clear();
+        MongoRepositoryFactory repositories = new MongoRepositoryFactory(mongo.template());
+        ApplicationEventPublisher events = event -> { };
+        BackfillTracker backfillTracker = new BackfillTracker();
+        ReflectionTestUtils.setField(backfillTracker, "mongoTemplate", mongo.template());
+
+        CommentService commentService = new CommentService();
+        ReflectionTestUtils.setField(commentService, "mongoTemplate", mongo.template());
+        ReflectionTestUtils.setField(commentService, "commentRepository", repositories.getRepository(CommentRepository.class));
+        ReflectionTestUtils.setField(commentService, "eventPublisher", events);
+
+        RankService rankService = new RankService();
+        ReflectionTestUtils.setField(rankService, "mongoTemplate", mongo.template());
+        ReflectionTestUtils.setField(rankService, "eventPublisher", events);
+        ReflectionTestUtils.setField(rankService, "taskExecutor", new TaskExecutorAdapter(Runnable::run));
+        ReflectionTestUtils.setField(rankService, "rebalanceLength", 12);
+        ReflectionTestUtils.setField(rankService, "backfillTracker", backfillTracker);
+
+        ColumnTaskCountService columnTaskCountService = new ColumnTaskCountService();
+        ReflectionTestUtils.setField(columnTaskCountService, "mongoTemplate", mongo.template());
+
+        BoardAnalyticsService boardAnalyticsService = new BoardAnalyticsService();
+        ReflectionTestUtils.setField(boardAnalyticsService, "mongoTemplate", mongo.template());
+
+        TaskSearchService taskSearchService = new TaskSearchService();
+        ReflectionTestUtils.setField(taskSearchService, "mongoTemplate", mongo.template());
+
+        taskController = new TaskController();
+        ReflectionTestUtils.setField(taskController, "taskRepository", repositories.getRepository(TaskRepository.class));
+        ReflectionTestUtils.setField(taskController, "boardRepository", repositories.getRepository(BoardRepository.class));
+        ReflectionTestUtils.setField(taskController, "taskSearchService", taskSearchService);
+        ReflectionTestUtils.setField(taskController, "commentService", commentService);
+        ReflectionTestUtils.setField(taskController, "rankService", rankService);
+        ReflectionTestUtils.setField(taskController, "columnTaskCountService", columnTaskCountService);
+        ReflectionTestUtils.setField(taskController, "boardAnalyticsService", boardAnalyticsService);
+        ReflectionTestUtils.setField(taskController, "eventPublisher", events);
+    }
+
+    @Test
+    void createIsRejectedAtTheLimit() {
+        String columnId = insertColumn(1, 1);
+
+        assertThrows(ConflictException.class, () -> taskController.createTask(newTask(columnId)));
+
+        assertEquals(1, column(columnId).getTaskCount());
+        assertEquals(0, mongo.template().count(new Query(), Task.class));
+    }
+
+    @Test
+    void createReleasesItsPlaceWhenTheSaveFails() {
+        String columnId = insertColumn(1, 0);
+        Task task = newTask(columnId);
+        // A taken id fails the versioned insert after the place was reserved
+        task.setId(insertTask("elsewhere").getId());
+
+        assertThrows(OptimisticLockingFailureException.class, () -> taskController.createTask(task));
+        assertEquals(0, column(columnId).getTaskCount());
+
+        taskController.createTask(newTask(columnId));
+        assertEquals(1, column(columnId).getTaskCount());
+    }
+
+    @Test
+    void columnChangeMovesTheCountAndLeavesColumnVersionsAlone() {
+        String fromColumnId = insertColumn(null, 1);
+        String toColumnId = insertColumn(1, 0);
+        Task task = insertTask(fromColumnId);
+        Long fromVersion = column(fromColumnId).getVersion();
+        Long toVersion = column(toColumnId).getVersion();
+
+        Task details = newTask(toColumnId);
+        details.setTitle("Moved");
+        taskController.updateTask(task.getId(), details, webRequest());
+
+        assertEquals(toColumnId, mongo.template().findById(task.getId(), Task.class).getColumnId());
+        assertEquals(0, column(fromColumnId).getTaskCount());
+        assertEquals(1, column(toColumnId).getTaskCount());
+        assertEquals(fromVersion, column(fromColumnId).getVersion());
+        assertEquals(toVersion, column(toColumnId).getVersion());
+    }
+
+    @Test
+    void columnChangeIntoAFullColumnKeepsBothCounts() {
+        String fromColumnId = insertColumn(null, 1);
+        String toColumnId = insertColumn(1, 1);
+        Task task = insertTask(fromColumnId);
+
+        assertThrows(ConflictException.class,
+                () -> taskController.updateTask(task.getId(), newTask(toColumnId), webRequest()));
+
+        assertEquals(fromColumnId, mongo.template().findById(task.getId(), Task.class).getColumnId());
+        assertEquals(1, column(fromColumnId).getTaskCount());
+        assertEquals(1, column(toColumnId).getTaskCount());
+    }
+
+    @Test
+    void boardSearchIsLimitedToTheBoardsOwner() {
+        String boardId = mongo.template().insert(new Board("Board", null, "owner")).getId();
+
+        assertEquals(HttpStatus.FORBIDDEN,
+                taskController.searchTasks("task", boardId, null, null, null, user("someone else")).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND,
+                taskController.searchTasks("task", "missing", null, null, null, user("owner")).getStatusCode());
+        assertEquals(HttpStatus.OK,
+                taskController.searchTasks("task", boardId, null, null, null, user("owner")).getStatusCode());
+    }
+
+    private static AuthResponse.UserDto user(String id) {
+        return new AuthResponse.UserDto(id, id + "@example.com", id, null);
+    }
+
+    private ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("PUT", "/tasks"), new MockHttpServletResponse());
+    }
+
+    private Task newTask(String columnId) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setBoardId("board");
+        task.setColumnId(columnId);
+        return task;
+    }
+
+    private String insertColumn(Integer limit, int taskCount) {
+        Column column = new Column();
+        column.setBoardId("board");
+        column.setLimit(limit);
+        column.setTaskCount(taskCount);
+        return mongo.template().insert(column).getId();
+    }
+
+    private Task insertTask(String columnId) {
+        return mongo.template().insert(newTask(columnId));
+    }
+
+    private Column column(String columnId) {
+        return mongo.template().findById(columnId, Column.class);
+    }
+}
@@ -0,0 +1,190 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.dto.BoardAnalytics;
+import com.taskflow.backend.model.Board;
+import com.taskflow.backend.model.BoardDailyCounters;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.support.InMemoryMongo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoardAnalyticsServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    // In a month before the one the last week starts in
+    private static final LocalDateTime LONG_AGO = TODAY.minusDays(100).atTime(10, 0);
+
+    private static InMemoryMongo mongo;
+
+    private BackfillTracker backfillTracker;
+    private BoardAnalyticsService analyticsService;
+    private String boardId;
+
+    @BeforeAll
+    static void startMongo() {
+        mongo = new InMemoryMongo();
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        mongo.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongo.clear();
+        backfillTracker = new BackfillTracker();
+        ReflectionTestUtils.setField(backfillTracker, "mongoTemplate", mongo.template());
+        analyticsService = new BoardAnalyticsService();
+        ReflectionTestUtils.setField(analyticsService, "mongoTemplate", mongo.template());
+        ReflectionTestUtils.setField(analyticsService, "backfillTracker", backfillTracker);
+        boardId = mongo.template().insert(new Board()).getId();
+    }
+
+    @Test
+    void taskIsCountedExactlyOnce() {
+        Task task = insertTask("todo", Task.TaskStatus.TODO, TODAY.minusDays(2).atTime(9, 0));
+
+        analyticsService.recordCreated(task);
+        analyticsService.recordCreated(task);
+        analyticsService.backfill();
+
+        BoardAnalytics.Day today = lastDay(lastWeek());
+        assertEquals(1L, today.getStatuses().get("TODO"));
+        assertEquals(Map.of("todo", 1L), today.getColumns());
+    }
+
+    @Test
+    void moveShiftsTheColumnCount() {
+        Task task = insertTask("todo", Task.TaskStatus.TODO, TODAY.atStartOfDay());
+        analyticsService.recordCreated(task);
+
+        task.setColumnId("doing");
+        analyticsService.recordTransition(task, "todo", Task.TaskStatus.TODO);
+
+        BoardAnalytics.Day today = lastDay(lastWeek());
+        assertEquals(Map.of("doing", 1L), today.getColumns());
+        assertEquals(1L, today.getStatuses().get("TODO"));
+        assertEquals(0, today.getCompleted());
+    }
+
+    @Test
+    void doneIsCompletedInItsCycleTimeBucket() {
+        // Finished straight from TODO: measured from creation, 30 hours
+        Task direct = insertTask("todo", Task.TaskStatus.TODO, LocalDateTime.now().minusHours(30));
+        analyticsService.recordCreated(direct);
+        direct.setStatus(Task.TaskStatus.DONE);
+        analyticsService.recordTransition(direct, "todo", Task.TaskStatus.TODO);
+
+        // Started just now: measured from leaving TODO, under an hour
+        Task started = insertTask("todo", Task.TaskStatus.TODO, LocalDateTime.now().minusDays(5));
+        analyticsService.recordCreated(started);
+        started.setStatus(Task.TaskStatus.IN_PROGRESS);
+        analyticsService.recordTransition(started, "todo", Task.TaskStatus.TODO);
+        started.setStatus(Task.TaskStatus.DONE);
+        analyticsService.recordTransition(started, "todo", Task.TaskStatus.IN_PROGRESS);
+
+        BoardAnalytics analytics = lastWeek();
+        assertEquals(2, analytics.getCompleted());
+        assertEquals(2, lastDay(analytics).getCompleted());
+        assertEquals(2L, lastDay(analytics).getStatuses().get("DONE"));
+        assertEquals(2, analytics.getCycleTime().getCount());
+        assertEquals(1L, analytics.getCycleTime().getP50Hours());
+        assertEquals(48L, analytics.getCycleTime().getP95Hours());
+    }
+
+    @Test
+    void deletionRemovesCountedAndUncountedTasks() {
+        Task counted = insertTask("todo", Task.TaskStatus.TODO, TODAY.atStartOfDay());
+        analyticsService.recordCreated(counted);
+        Task uncounted = insertTask("todo", Task.TaskStatus.REVIEW, TODAY.atStartOfDay());
+
+        analyticsService.recordDeleted(List.of(counted, uncounted));
+
+        BoardAnalytics.Day today = lastDay(lastWeek());
+        assertTrue(today.getStatuses().values().stream().allMatch(count -> count == 0), today.getStatuses().toString());
+        assertTrue(today.getColumns().isEmpty(), today.getColumns().toString());
+    }
+
+    @Test
+    void monthsBeforeTheRangeAreReadFromTheirRollups() {
+        analyticsService.backfill();
+        analyticsService.recordCreated(insertTask("todo", Task.TaskStatus.TODO, LONG_AGO));
+
+        removeDaysBefore(TODAY.minusDays(6).withDayOfMonth(1));
+
+        assertEquals(1L, lastDay(lastWeek()).getStatuses().get("TODO"));
+    }
+
+    @Test
+    void daysFromBeforeTheRollupsAreRolledUpOnce() {
+        BoardDailyCounters legacy = new BoardDailyCounters();
+        legacy.setId(BoardDailyCounters.idOf(boardId, LONG_AGO.toLocalDate()));
+        legacy.setBoardId(boardId);
+        legacy.setDate(LONG_AGO.toLocalDate());
+        legacy.setStatusDelta(Map.of("TODO", 2L));
+        legacy.setColumnDelta(Map.of("todo", 2L));
+        mongo.template().insert(legacy);
+        mongo.template().getCollection("board_daily_counters")
+                .updateOne(new org.bson.Document(), new org.bson.Document("$unset", new org.bson.Document("rolledUp", "")));
+        // Before the rollup: on the day only, carried over when it is flagged
+        analyticsService.recordCreated(insertTask("todo", Task.TaskStatus.TODO, LONG_AGO));
+        assertEquals(3L, lastDay(lastWeek()).getStatuses().get("TODO"));
+
+        analyticsService.backfill();
+        analyticsService.backfill();
+        // After it: on the day and in the month
+        analyticsService.recordCreated(insertTask("todo", Task.TaskStatus.TODO, LONG_AGO));
+        removeDaysBefore(TODAY.minusDays(6).withDayOfMonth(1));
+
+        BoardAnalytics.Day today = lastDay(lastWeek());
+        assertEquals(4L, today.getStatuses().get("TODO"));
+        assertEquals(Map.of("todo", 4L), today.getColumns());
+    }
+
+    @Test
+    void finishedBackfillIsNotRepeated() {
+        analyticsService.backfill();
+        insertTask("todo", Task.TaskStatus.TODO, TODAY.atStartOfDay());
+
+        analyticsService.backfill();
+
+        assertTrue(backfillTracker.isDone(BoardAnalyticsService.TASK_BACKFILL));
+        assertEquals(0L, lastDay(lastWeek()).getStatuses().get("TODO"));
+    }
+
+    private Task insertTask(String columnId, Task.TaskStatus status, LocalDateTime createdAt) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setBoardId(boardId);
+        task.setColumnId(columnId);
+        task.setStatus(status);
+        task.setCreatedAt(createdAt);
+        return mongo.template().insert(task);
+    }
+
+    private BoardAnalytics lastWeek() {
+        return analyticsService.getAnalytics(boardId, TODAY.minusDays(6), TODAY).orElseThrow();
+    }
+
+    private static BoardAnalytics.Day lastDay(BoardAnalytics analytics) {
+        return analytics.getDays().get(analytics.getDays().size() - 1);
+    }
+
+    private void removeDaysBefore(LocalDate date) {
+        mongo.template().remove(Query.query(Criteria.where("date").lt(date)), BoardDailyCounters.class);
+    }
+}
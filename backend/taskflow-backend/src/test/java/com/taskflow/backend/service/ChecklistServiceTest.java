@@ -0,0 +1,134 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.dto.UpdateChecklistItemRequest;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.support.InMemoryMongo;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChecklistServiceTest {
+
+    private static InMemoryMongo mongo;
+
+    private ChecklistService checklistService;
+
+    @BeforeAll
+    static void startMongo() {
+        mongo = new InMemoryMongo();
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        mongo.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongo.clear();
+        TaskSearchIndexer taskSearchIndexer = new TaskSearchIndexer();
+        ReflectionTestUtils.setField(taskSearchIndexer, "mongoTemplate", mongo.template());
+        ReflectionTestUtils.setField(taskSearchIndexer, "taskExecutor", new TaskExecutorAdapter(Runnable::run));
+        checklistService = new ChecklistService();
+        ReflectionTestUtils.setField(checklistService, "mongoTemplate", mongo.template());
+        ReflectionTestUtils.setField(checklistService, "taskSearchIndexer", taskSearchIndexer);
+        ReflectionTestUtils.setField(checklistService, "eventPublisher", (ApplicationEventPublisher) event -> { });
+    }
+
+    @Test
+    void itemIdsAreStoredAsUnderscoreId() {
+        // The array filter and the elemMatch projection are not mapped and name the stored field
+        String taskId = insertTask();
+        String itemId = addItem(taskId, "Write tests");
+
+        Document stored = mongo.template().getCollection("tasks").find(new Document("_id", new ObjectId(taskId))).first();
+        Document item = stored.getList("checklist", Document.class).get(0);
+
+        assertEquals(itemId, item.get("_id"));
+        assertFalse(item.containsKey("id"));
+    }
+
+    @Test
+    void updateChangesOnlyTheNamedItem() {
+        String taskId = insertTask();
+        String first = addItem(taskId, "First");
+        String second = addItem(taskId, "Second");
+
+        Task.ChecklistItem updated = checklistService.updateItem(taskId, second,
+                new UpdateChecklistItemRequest(null, true)).orElseThrow();
+
+        assertEquals(second, updated.getId());
+        assertTrue(updated.isCompleted());
+        List<Task.ChecklistItem> checklist = checklist(taskId);
+        assertEquals(first, checklist.get(0).getId());
+        assertFalse(checklist.get(0).isCompleted());
+        assertTrue(checklist.get(1).isCompleted());
+    }
+
+    @Test
+    void renamingKeepsTheItemCompleted() {
+        String taskId = insertTask();
+        String itemId = addItem(taskId, "Draft");
+        checklistService.updateItem(taskId, itemId, new UpdateChecklistItemRequest(null, true));
+
+        Task.ChecklistItem updated = checklistService.updateItem(taskId, itemId,
+                new UpdateChecklistItemRequest("Final", null)).orElseThrow();
+
+        assertEquals("Final", updated.getText());
+        assertTrue(updated.isCompleted());
+    }
+
+    @Test
+    void updateOfAnUnknownItemFindsNothing() {
+        String taskId = insertTask();
+        addItem(taskId, "Only");
+
+        assertTrue(checklistService.updateItem(taskId, "missing", new UpdateChecklistItemRequest("x", true)).isEmpty());
+    }
+
+    @Test
+    void itemTextIsIndexedForSearch() {
+        String taskId = insertTask();
+        String itemId = addItem(taskId, "Write tests");
+        assertTrue(searchGrams(taskId).containsAll(SearchTerms.grams("write", true)));
+
+        checklistService.updateItem(taskId, itemId, new UpdateChecklistItemRequest("Review", null));
+        assertFalse(searchGrams(taskId).contains("wri"));
+        assertTrue(searchGrams(taskId).containsAll(SearchTerms.grams("review", true)));
+
+        checklistService.deleteItem(taskId, itemId);
+        assertFalse(searchGrams(taskId).contains("rev"));
+    }
+
+    private List<String> searchGrams(String taskId) {
+        return mongo.template().findById(taskId, Task.class).getSearchGrams();
+    }
+
+    private String insertTask() {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setBoardId("board");
+        task.setColumnId("column");
+        return mongo.template().insert(task).getId();
+    }
+
+    private String addItem(String taskId, String text) {
+        return checklistService.addItem(taskId, new Task.ChecklistItem(text)).orElseThrow().getId();
+    }
+
+    private List<Task.ChecklistItem> checklist(String taskId) {
+        return mongo.template().findById(taskId, Task.class).getChecklist();
+    }
+}
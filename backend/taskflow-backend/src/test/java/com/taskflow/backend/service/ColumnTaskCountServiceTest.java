@@ -0,0 +1,123 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.exception.ConflictException;
+import com.taskflow.backend.exception.ResourceNotFoundException;
+import com.taskflow.backend.model.Column;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.support.InMemoryMongo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnTaskCountServiceTest {
+
+    private static InMemoryMongo mongo;
+
+    private ColumnTaskCountService columnTaskCountService;
+
+    @BeforeAll
+    static void startMongo() {
+        mongo = new InMemoryMongo();
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        mongo.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongo.clear();
+        columnTaskCountService = new ColumnTaskCountService();
+        ReflectionTestUtils.setField(columnTaskCountService, "mongoTemplate", mongo.template());
+    }
+
+    @Test
+    void reserveStopsAtTheLimit() {
+        String columnId = insertColumn(2, 0);
+
+        columnTaskCountService.reserve(columnId, "board");
+        columnTaskCountService.reserve(columnId, "board");
+
+        assertThrows(ConflictException.class, () -> columnTaskCountService.reserve(columnId, "board"));
+        assertEquals(2, column(columnId).getTaskCount());
+    }
+
+    @Test
+    void releaseFreesAPlace() {
+        String columnId = insertColumn(1, 0);
+        columnTaskCountService.reserve(columnId, "board");
+
+        columnTaskCountService.release(columnId);
+        columnTaskCountService.reserve(columnId, "board");
+
+        assertEquals(1, column(columnId).getTaskCount());
+    }
+
+    @Test
+    void columnWithoutLimitTakesAnyNumberOfTasks() {
+        String columnId = insertColumn(null, 0);
+
+        for (int i = 0; i < 5; i++) {
+            columnTaskCountService.reserve(columnId, "board");
+        }
+
+        assertEquals(5, column(columnId).getTaskCount());
+    }
+
+    @Test
+    void columnFromBeforeTheCounterIsCountedOnFirstUse() {
+        String columnId = insertColumn(3, null);
+        insertTask(columnId);
+        insertTask(columnId);
+
+        columnTaskCountService.reserve(columnId, "board");
+
+        assertEquals(3, column(columnId).getTaskCount());
+        assertThrows(ConflictException.class, () -> columnTaskCountService.reserve(columnId, "board"));
+    }
+
+    @Test
+    void reserveRejectsAColumnOfAnotherBoard() {
+        String columnId = insertColumn(null, 0);
+
+        assertThrows(ResourceNotFoundException.class, () -> columnTaskCountService.reserve(columnId, "other board"));
+        assertEquals(0, column(columnId).getTaskCount());
+    }
+
+    @Test
+    void countChangesLeaveTheColumnVersionAlone() {
+        String columnId = insertColumn(null, 0);
+        Long version = column(columnId).getVersion();
+
+        columnTaskCountService.reserve(columnId, "board");
+        columnTaskCountService.add(columnId);
+        columnTaskCountService.release(columnId);
+
+        assertEquals(version, column(columnId).getVersion());
+    }
+
+    private String insertColumn(Integer limit, Integer taskCount) {
+        Column column = new Column();
+        column.setBoardId("board");
+        column.setLimit(limit);
+        column.setTaskCount(taskCount); // null for a column from before the counter
+        return mongo.template().insert(column).getId();
+    }
+
+    private void insertTask(String columnId) {
+        Task task = new Task();
+        task.setBoardId("board");
+        task.setColumnId(columnId);
+        mongo.template().insert(task);
+    }
+
+    private Column column(String columnId) {
+        return mongo.template().findById(columnId, Column.class);
+    }
+}
@@ -0,0 +1,157 @@
+package com.taskflow.backend.service;
+
+import com.mongodb.client.MongoCollection;
+import com.taskflow.backend.dto.CommentPage;
+import com.taskflow.backend.model.Comment;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.CommentRepository;
+import com.taskflow.backend.support.InMemoryMongo;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommentServiceTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    private static InMemoryMongo mongo;
+
+    private CommentService commentService;
+
+    @BeforeAll
+    static void startMongo() {
+        mongo = new InMemoryMongo();
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        mongo.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongo.clear();
+        commentService = new CommentService();
+        ReflectionTestUtils.setField(commentService, "mongoTemplate", mongo.template());
+        ReflectionTestUtils.setField(commentService, "commentRepository",
+                new MongoRepositoryFactory(mongo.template()).getRepository(CommentRepository.class));
+        ReflectionTestUtils.setField(commentService, "eventPublisher", (ApplicationEventPublisher) event -> { });
+    }
+
+    @Test
+    void migratesLegacyTaskWithoutVersion() {
+        String taskId = insertLegacyTask(null);
+
+        assertMigrated(taskId, 1L);
+    }
+
+    @Test
+    void migratesLegacyTaskThatAlreadyHasVersion() {
+        // Checklist edits, moves and rank writes $inc the version of legacy tasks too
+        String taskId = insertLegacyTask(3L);
+
+        assertMigrated(taskId, 4L);
+    }
+
+    @Test
+    void migratesOnlyOnce() {
+        String taskId = insertLegacyTask(3L);
+
+        commentService.getComments(taskId, null, null);
+        CommentPage page = commentService.getComments(taskId, null, null).orElseThrow();
+
+        assertEquals(2, page.getItems().size());
+        assertEquals(2, mongo.template().count(new Query(), Comment.class));
+    }
+
+    @Test
+    void lostClaimLeavesCommentsEmbeddedAndRetryDoesNotDuplicate() {
+        String taskId = insertLegacyTask(3L);
+        Task stale = mongo.template().findById(taskId, Task.class);
+        stale.setVersion(2L); // someone else wrote the task after it was read
+
+        commentService.migrateEmbeddedComments(stale);
+
+        assertEquals(2, mongo.template().count(new Query(), Comment.class));
+        assertTrue(tasks().find(new Document("_id", new ObjectId(taskId))).first().containsKey("comments"));
+        assertMigrated(taskId, 4L);
+        assertEquals(2, mongo.template().count(new Query(), Comment.class));
+    }
+
+    @Test
+    void legacyIdsAreKeptAndPagesCrossStringAndObjectIds() {
+        ObjectId taskId = new ObjectId();
+        String legacyObjectId = new ObjectId().toHexString();
+        tasks().insertOne(new Document("_id", taskId)
+                .append("boardId", "board")
+                .append("comments", List.of(
+                        legacyComment("client id", CREATED).append("_id", "c-1"),
+                        legacyComment("object id", CREATED).append("_id", legacyObjectId),
+                        legacyComment("no id", CREATED))));
+
+        List<Comment> listed = new ArrayList<>();
+        String cursor = null;
+        do {
+            CommentPage page = commentService.getComments(taskId.toHexString(), cursor, 1).orElseThrow();
+            listed.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(3, listed.size());
+        assertEquals("c-1", listed.get(0).getId()); // strings sort before ObjectIds
+        assertTrue(listed.stream().anyMatch(comment -> legacyObjectId.equals(comment.getId())));
+        assertTrue(listed.stream().anyMatch(comment -> comment.getId().equals(
+                CommentService.migratedId(taskId.toHexString(), 2, new Task.TaskComment()))));
+    }
+
+    private void assertMigrated(String taskId, long version) {
+        CommentPage page = commentService.getComments(taskId, null, null).orElseThrow();
+
+        assertEquals(List.of("first", "second"), page.getItems().stream().map(Comment::getText).toList());
+        page.getItems().forEach(comment -> assertEquals("board", comment.getBoardId()));
+        Document stored = tasks().find(new Document("_id", new ObjectId(taskId))).first();
+        assertFalse(stored.containsKey("comments"));
+        assertEquals(version, stored.get("version", Number.class).longValue());
+    }
+
+    // Written as raw documents so the version is exactly what an older writer left
+    private String insertLegacyTask(Long version) {
+        ObjectId id = new ObjectId();
+        Document task = new Document("_id", id)
+                .append("title", "legacy")
+                .append("boardId", "board")
+                .append("columnId", "column")
+                .append("comments", List.of(legacyComment("first", CREATED), legacyComment("second", CREATED.plusMinutes(1))));
+        if (version != null) {
+            task.append("version", version);
+        }
+        tasks().insertOne(task);
+        return id.toHexString();
+    }
+
+    private Document legacyComment(String text, LocalDateTime createdAt) {
+        return new Document("userId", "user")
+                .append("text", text)
+                .append("createdAt", createdAt)
+                .append("updatedAt", createdAt);
+    }
+
+    private MongoCollection<Document> tasks() {
+        return mongo.template().getCollection("tasks");
+    }
+}
@@ -0,0 +1,162 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.model.OutboundEmail;
+import com.taskflow.backend.support.FakeSmtpServer;
+import com.taskflow.backend.support.InMemoryMongo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailOutboxDispatcherTest {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+
+    private static InMemoryMongo mongo;
+
+    private FakeSmtpServer smtp;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeAll
+    static void startMongo() {
+        mongo = new InMemoryMongo();
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        mongo.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongo.clear();
+        smtp = new FakeSmtpServer();
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtp.getPort());
+
+        dispatcher = new EmailOutboxDispatcher();
+        ReflectionTestUtils.setField(dispatcher, "mongoTemplate", mongo.template());
+        ReflectionTestUtils.setField(dispatcher, "mailSender", mailSender);
+        ReflectionTestUtils.setField(dispatcher, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 3);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "initialBackoff", INITIAL_BACKOFF);
+        ReflectionTestUtils.setField(dispatcher, "maxBackoff", Duration.ofHours(1));
+        ReflectionTestUtils.setField(dispatcher, "claimTimeout", Duration.ofMinutes(5));
+        dispatcher.initMetrics();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smtp.close();
+    }
+
+    @Test
+    void sendsEachBatchOverOneConnection() {
+        for (int i = 0; i < 5; i++) {
+            enqueue("user" + i + "@example.com");
+        }
+
+        dispatcher.dispatch();
+        assertEquals(3, smtp.getDelivered().size());
+        assertEquals(1, smtp.getConnections());
+
+        dispatcher.dispatch();
+        assertEquals(5, smtp.getDelivered().size());
+        assertEquals(2, smtp.getConnections());
+
+        for (OutboundEmail email : all()) {
+            assertEquals(OutboundEmail.Status.SENT, email.getStatus());
+            assertNotNull(email.getFinishedAt());
+            assertNull(email.getText()); // may have held a reset token
+        }
+    }
+
+    @Test
+    void retriesRejectedMessageWithDoublingBackoffThenGivesUp() {
+        smtp.reject("bounce@example.com");
+        enqueue("ok@example.com");
+        String bounce = enqueue("bounce@example.com");
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+        assertEquals(List.of("ok@example.com"), smtp.getDelivered());
+        OutboundEmail retry = find(bounce);
+        assertEquals(OutboundEmail.Status.PENDING, retry.getStatus());
+        assertEquals(1, retry.getAttempts());
+        assertDueAfter(retry, before, INITIAL_BACKOFF);
+
+        // Not due yet, so nothing is sent
+        dispatcher.dispatch();
+        assertEquals(1, find(bounce).getAttempts());
+
+        makeDue(bounce);
+        before = LocalDateTime.now();
+        dispatcher.dispatch();
+        retry = find(bounce);
+        assertEquals(2, retry.getAttempts());
+        assertDueAfter(retry, before, INITIAL_BACKOFF.multipliedBy(2));
+
+        makeDue(bounce);
+        dispatcher.dispatch();
+        OutboundEmail failed = find(bounce);
+        assertEquals(OutboundEmail.Status.FAILED, failed.getStatus());
+        assertEquals(3, failed.getAttempts());
+        assertNotNull(failed.getFinishedAt());
+        assertNull(failed.getText());
+    }
+
+    @Test
+    void keepsTheBatchQueuedWhileTheServerIsDown() throws Exception {
+        String id = enqueue("user@example.com");
+        smtp.close();
+
+        dispatcher.dispatch();
+
+        OutboundEmail email = find(id);
+        assertEquals(OutboundEmail.Status.PENDING, email.getStatus());
+        assertEquals(1, email.getAttempts());
+        assertNotNull(email.getLastError());
+        assertNotNull(email.getText());
+    }
+
+    private String enqueue(String to) {
+        return mongo.template().insert(new OutboundEmail(to, "Subject", "Text")).getId();
+    }
+
+    private OutboundEmail find(String id) {
+        return mongo.template().findById(id, OutboundEmail.class);
+    }
+
+    private List<OutboundEmail> all() {
+        return mongo.template().findAll(OutboundEmail.class);
+    }
+
+    private void makeDue(String id) {
+        mongo.template().updateFirst(Query.query(Criteria.where("_id").is(id)),
+                new Update().set("nextAttemptAt", LocalDateTime.now().minusSeconds(1)), OutboundEmail.class);
+    }
+
+    private void assertDueAfter(OutboundEmail email, LocalDateTime failedAfter, Duration backoff) {
+        LocalDateTime due = email.getNextAttemptAt();
+        assertTrue(!due.isBefore(failedAfter.plus(backoff).minusSeconds(1))
+                && due.isBefore(LocalDateTime.now().plus(backoff).plusSeconds(1)), "due at " + due);
+    }
+}
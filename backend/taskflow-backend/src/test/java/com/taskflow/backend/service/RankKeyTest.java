@@ -0,0 +1,64 @@
+package com.taskflow.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RankKeyTest {
+
+    @Test
+    void betweenStaysStrictlyBetweenItsNeighbours() {
+        List<String> keys = new ArrayList<>(List.of(RankKey.between(null, null)));
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            int slot = random.nextInt(keys.size() + 1);
+            String before = slot > 0 ? keys.get(slot - 1) : null;
+            String after = slot < keys.size() ? keys.get(slot) : null;
+            String key = RankKey.between(before, after);
+
+            assertTrue(before == null || before.compareTo(key) < 0, before + " < " + key);
+            assertTrue(after == null || key.compareTo(after) < 0, key + " < " + after);
+            assertFalse(key.endsWith("0"), key);
+            keys.add(slot, key);
+        }
+    }
+
+    @Test
+    void repeatedInsertsAtTheFrontGrowKeysSlowly() {
+        String first = RankKey.between(null, null);
+        for (int i = 0; i < 100; i++) {
+            String key = RankKey.between(null, first);
+            assertTrue(key.compareTo(first) < 0);
+            first = key;
+        }
+        assertTrue(first.length() <= 25, first);
+    }
+
+    @Test
+    void sequenceIsSortedAndUnique() {
+        for (int count : new int[] {1, 35, 36, 1000}) {
+            List<String> keys = RankKey.sequence(count);
+            assertEquals(count, keys.size());
+            for (int i = 1; i < keys.size(); i++) {
+                assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0, keys.get(i - 1) + " < " + keys.get(i));
+            }
+            keys.forEach(key -> assertFalse(key.isEmpty() || key.endsWith("0"), key));
+        }
+        assertEquals(2, RankKey.sequence(1000).get(0).length());
+    }
+
+    @Test
+    void rejectsMisorderedOrMalformedKeys() {
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("a", "a"));
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("a0", null));
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("A", null));
+    }
+}
@@ -0,0 +1,129 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.exception.BadRequestException;
+import com.taskflow.backend.model.Column;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.support.InMemoryMongo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RankServiceTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    private static InMemoryMongo mongo;
+
+    private final List<Object> events = new ArrayList<>();
+
+    private RankService rankService;
+
+    @BeforeAll
+    static void startMongo() {
+        mongo = new InMemoryMongo();
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        mongo.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongo.clear();
+        events.clear();
+        rankService = new RankService();
+        ReflectionTestUtils.setField(rankService, "mongoTemplate", mongo.template());
+        ReflectionTestUtils.setField(rankService, "eventPublisher", (ApplicationEventPublisher) events::add);
+        ReflectionTestUtils.setField(rankService, "taskExecutor", new TaskExecutorAdapter(Runnable::run));
+        ReflectionTestUtils.setField(rankService, "rebalanceLength", 12);
+        BackfillTracker backfillTracker = new BackfillTracker();
+        ReflectionTestUtils.setField(backfillTracker, "mongoTemplate", mongo.template());
+        ReflectionTestUtils.setField(rankService, "backfillTracker", backfillTracker);
+    }
+
+    @Test
+    void invertedNeighboursAreRejectedWithoutRebalancing() {
+        String columnId = insertColumn();
+        String first = insertTask(columnId, "i", CREATED);
+        String second = insertTask(columnId, "r", CREATED);
+
+        assertThrows(BadRequestException.class, () -> rankService.rankForTask(columnId, null, null, second, first));
+
+        assertEquals("i", rankOf(first));
+        assertEquals("r", rankOf(second));
+        assertTrue(events.isEmpty(), "a rebalance publishes a column update");
+    }
+
+    @Test
+    void neighboursFromAnotherColumnAreRejected() {
+        String columnId = insertColumn();
+        String otherColumnId = insertColumn();
+        String first = insertTask(columnId, "i", CREATED);
+        String elsewhere = insertTask(otherColumnId, "r", CREATED);
+
+        assertThrows(BadRequestException.class, () -> rankService.rankForTask(columnId, null, null, first, elsewhere));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void equalNeighboursAreRebalancedAndPlacedBetween() {
+        // Two concurrent moves to the same spot leave equal keys; legacy order breaks the tie
+        String columnId = insertColumn();
+        String first = insertTask(columnId, "i", CREATED);
+        String second = insertTask(columnId, "i", CREATED.plusMinutes(1));
+
+        String rank = rankService.rankForTask(columnId, null, null, first, second);
+
+        assertTrue(rankOf(first).compareTo(rank) < 0, rankOf(first) + " < " + rank);
+        assertTrue(rank.compareTo(rankOf(second)) < 0, rank + " < " + rankOf(second));
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void backfillRanksLegacyTasksInOnePass() {
+        String columnId = insertColumn();
+        String first = insertTask(columnId, null, CREATED);
+        String second = insertTask(columnId, null, CREATED.plusMinutes(1));
+
+        rankService.backfill();
+
+        assertTrue(rankOf(first).compareTo(rankOf(second)) < 0, rankOf(first) + " < " + rankOf(second));
+        // The finished backfill does not scan for rank-less tasks again
+        String later = insertTask(columnId, null, CREATED.plusMinutes(2));
+        rankService.backfill();
+        assertNull(rankOf(later));
+    }
+
+    private String insertColumn() {
+        Column column = new Column();
+        column.setBoardId("board");
+        return mongo.template().insert(column).getId();
+    }
+
+    private String insertTask(String columnId, String rank, LocalDateTime createdAt) {
+        Task task = new Task();
+        task.setBoardId("board");
+        task.setColumnId(columnId);
+        task.setRank(rank);
+        task.setCreatedAt(createdAt);
+        return mongo.template().insert(task).getId();
+    }
+
+    private String rankOf(String taskId) {
+        return mongo.template().findById(taskId, Task.class).getRank();
+    }
+}
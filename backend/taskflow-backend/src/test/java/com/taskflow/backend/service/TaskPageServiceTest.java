@@ -0,0 +1,179 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.dto.TaskPage;
+import com.taskflow.backend.dto.TaskQuery;
+import com.taskflow.backend.exception.BadRequestException;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.support.InMemoryMongo;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskPageServiceTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    private static InMemoryMongo mongo;
+
+    private TaskPageService taskPageService;
+
+    @BeforeAll
+    static void startMongo() {
+        mongo = new InMemoryMongo();
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        mongo.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongo.clear();
+        taskPageService = new TaskPageService();
+        ReflectionTestUtils.setField(taskPageService, "mongoTemplate", mongo.template());
+        ReflectionTestUtils.setField(taskPageService, "taskQueryGuard", new TaskQueryGuard(mongo.template()));
+    }
+
+    @Test
+    void boardPagesContinuePastTasksCreatedAtTheSameTime() {
+        List<String> expected = new ArrayList<>();
+        expected.add(insert("early", CREATED.minusMinutes(1)));
+        for (int i = 0; i < 5; i++) {
+            expected.add(insert("same " + i, CREATED));
+        }
+        expected.add(insert("late", CREATED.plusMinutes(1)));
+
+        List<String> listed = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPage page = taskPageService.findByBoard("board", cursor, 2, null);
+            page.getItems().forEach(task -> listed.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(expected, listed);
+    }
+
+    @Test
+    void boardPagesContinuePastTasksSavedWithoutCreationTime() {
+        List<String> expected = new ArrayList<>();
+        expected.add(insert("dated", CREATED));
+        for (int i = 0; i < 3; i++) {
+            ObjectId id = new ObjectId();
+            mongo.template().getCollection("tasks").insertOne(new Document("_id", id).append("boardId", "board"));
+            expected.add(id.toHexString());
+        }
+        CreationTimeBackfill backfill = new CreationTimeBackfill();
+        BackfillTracker backfillTracker = new BackfillTracker();
+        ReflectionTestUtils.setField(backfillTracker, "mongoTemplate", mongo.template());
+        ReflectionTestUtils.setField(backfill, "mongoTemplate", mongo.template());
+        ReflectionTestUtils.setField(backfill, "backfillTracker", backfillTracker);
+
+        backfill.backfill();
+
+        // Ordered by the time in their ids, after the task from 2024
+        List<String> listed = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPage page = taskPageService.findByBoard("board", cursor, 2, null);
+            page.getItems().forEach(task -> listed.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(expected, listed);
+    }
+
+    @Test
+    void cursorWithoutCreationTimeContinuesAfterTheUnsetOnes() {
+        // Unset creation times sort before any date, in id order
+        String first = mongo.template().insert(new Document("boardId", "board"), "tasks").getObjectId("_id").toHexString();
+        String second = mongo.template().insert(new Document("boardId", "board"), "tasks").getObjectId("_id").toHexString();
+        String dated = insert("dated", CREATED);
+
+        String cursor = new KeysetCursor(null, first).encode();
+        List<String> listed = taskPageService.findByBoard("board", cursor, 5, null).getItems().stream()
+                .map(Task::getId)
+                .toList();
+
+        assertEquals(List.of(second, dated), listed);
+    }
+
+    @Test
+    void dueDatePagesCrossTiesAndUnsetDatesInBothDirections() {
+        // Unset dates sort first, then dates; ties in id order
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expected.add(insert("no due date " + i, CREATED, null));
+        }
+        expected.add(insert("earlier", CREATED, CREATED.minusDays(1)));
+        for (int i = 0; i < 3; i++) {
+            expected.add(insert("same due date " + i, CREATED, CREATED));
+        }
+        expected.add(insert("later", CREATED, CREATED.plusDays(1)));
+
+        assertEquals(expected, queryAll("dueDate"));
+        Collections.reverse(expected);
+        assertEquals(expected, queryAll("-dueDate"));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        insert("only", CREATED);
+
+        TaskPage page = taskPageService.findByBoard("board", null, 2, null);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void commentsCannotBeSelected() {
+        BadRequestException e = assertThrows(BadRequestException.class,
+                () -> taskPageService.findByBoard("board", null, 2, List.of("title", "comments")));
+
+        assertTrue(e.getMessage().contains("/tasks/{id}/comments"), e.getMessage());
+    }
+
+    private List<String> queryAll(String sort) {
+        TaskQuery filter = new TaskQuery();
+        filter.setBoardId("board");
+        filter.setSort(sort);
+        List<String> listed = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPage page = taskPageService.query(filter, cursor, 2, null);
+            page.getItems().forEach(task -> listed.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return listed;
+    }
+
+    private String insert(String title, LocalDateTime createdAt) {
+        return insert(title, createdAt, null);
+    }
+
+    // Ids are ObjectIds in insertion order, so ties on the sort field list in that order
+    private String insert(String title, LocalDateTime createdAt, LocalDateTime dueDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setBoardId("board");
+        task.setColumnId("column");
+        task.setCreatedAt(createdAt);
+        task.setDueDate(dueDate);
+        return mongo.template().insert(task).getId();
+    }
+}
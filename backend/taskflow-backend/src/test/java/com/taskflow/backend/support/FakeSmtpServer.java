@@ -0,0 +1,113 @@
+package com.taskflow.backend.support;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local SMTP sink for mail tests. Accepts every message except those to
+ * rejected recipients, and records the recipients delivered to and the number
+ * of connections made. Handles one connection at a time.
+ */
+public class FakeSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> rejected = Collections.synchronizedSet(new HashSet<>());
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public FakeSmtpServer() {
+        try {
+            serverSocket = new ServerSocket(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Thread acceptor = new Thread(this::accept, "fake-smtp");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public void reject(String recipient) {
+        rejected.add(recipient);
+    }
+
+    public List<String> getDelivered() {
+        return List.copyOf(delivered);
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                connections.incrementAndGet();
+                converse(socket);
+            } catch (IOException e) {
+                // closed, or the client hung up
+            }
+        }
+    }
+
+    private void converse(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII);
+        reply(out, "220 fake-smtp ready");
+        List<String> recipients = new ArrayList<>();
+        String line;
+        while ((line = in.readLine()) != null) {
+            String command = line.toUpperCase();
+            if (command.startsWith("RCPT TO:")) {
+                String recipient = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+                if (rejected.contains(recipient)) {
+                    reply(out, "550 no such mailbox");
+                } else {
+                    recipients.add(recipient);
+                    reply(out, "250 OK");
+                }
+            } else if (command.equals("DATA")) {
+                reply(out, "354 end with .");
+                while ((line = in.readLine()) != null && !line.equals(".")) {
+                    // message content is not kept
+                }
+                delivered.addAll(recipients);
+                recipients.clear();
+                reply(out, "250 OK");
+            } else if (command.startsWith("RSET") || command.startsWith("MAIL FROM:")) {
+                recipients.clear();
+                reply(out, "250 OK");
+            } else if (command.startsWith("QUIT")) {
+                reply(out, "221 bye");
+                return;
+            } else {
+                reply(out, "250 OK"); // EHLO, HELO, NOOP
+            }
+        }
+    }
+
+    private void reply(PrintWriter out, String reply) {
+        out.print(reply + "\r\n");
+        out.flush();
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskflow.backend.support;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * An in-process MongoDB server for service tests, with a MongoTemplate mapped
+ * the way the application maps it. Close it after the test class.
+ */
+public class InMemoryMongo implements AutoCloseable {
+
+    private final MongoServer server;
+    private final MongoClient client;
+    private final MongoTemplate mongoTemplate;
+
+    public InMemoryMongo() {
+        server = new MongoServer(new MemoryBackend());
+        client = MongoClients.create(server.bindAndGetConnectionString());
+        mongoTemplate = new MongoTemplate(client, "taskflow-test");
+    }
+
+    public MongoTemplate template() {
+        return mongoTemplate;
+    }
+
+    public void clear() {
+        mongoTemplate.getDb().drop();
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        server.shutdown();
+    }
+}
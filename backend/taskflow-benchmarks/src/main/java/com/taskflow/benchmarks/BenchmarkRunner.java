@@ -0,0 +1,35 @@
+package com.taskflow.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with JMH's usual command line options, but writes JSON
+ * results to {@code jmh-result.json} unless -rf/-rff say otherwise, so runs can
+ * be archived and compared over time.
+ *
+ * <pre>
+ * mvn -f backend/pom.xml -pl taskflow-benchmarks -am package -DskipTests
+ * java -jar backend/taskflow-benchmarks/target/benchmarks.jar [JMH options] [benchmark regex]
+ * </pre>
+ */
+public class BenchmarkRunner {
+    
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder defaults = new OptionsBuilder();
+        if (!commandLine.getResultFormat().hasValue()) {
+            defaults.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            defaults.result("jmh-result.json");
+        }
+        Options options = defaults.parent(commandLine).build();
+        new Runner(options).run();
+    }
+}
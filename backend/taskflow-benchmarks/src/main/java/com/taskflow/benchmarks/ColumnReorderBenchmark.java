@@ -0,0 +1,57 @@
+package com.taskflow.benchmarks;
+
+import com.taskflow.backend.service.RankKey;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The key computations behind moving a task or column (see RankService): a
+ * move computes one key between its two neighbours, whatever the column size;
+ * a rebalance computes a fresh key for every item. The neighbours are keys
+ * after {@code depth} moves into the same gap, the worst case for key length
+ * before a rebalance is triggered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColumnReorderBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    public int columnSize;
+    
+    @Param({"0", "20"})
+    public int depth;
+    
+    private String before;
+    private String after;
+    
+    @Setup
+    public void setUp() {
+        List<String> ranks = RankKey.sequence(columnSize);
+        before = ranks.get(columnSize / 2 - 1);
+        after = ranks.get(columnSize / 2);
+        for (int i = 0; i < depth; i++) {
+            after = RankKey.between(before, after);
+        }
+    }
+    
+    @Benchmark
+    public String moveBetween() {
+        return RankKey.between(before, after);
+    }
+    
+    @Benchmark
+    public String moveToTop() {
+        return RankKey.between(null, before);
+    }
+    
+    @Benchmark
+    public List<String> rebalance() {
+        return RankKey.sequence(columnSize);
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskflow.benchmarks;
+
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.service.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+    
+    // 0 disables the verified-claims cache, so every call parses and verifies
+    @Param({"0", "10000"})
+    public long claimsCacheSize;
+    
+    private JwtService jwtService;
+    private User user;
+    private String token;
+    
+    @Setup
+    public void setUp() throws Exception {
+        jwtService = new JwtService();
+        set("secret", "benchmarkSecretKey123456789012345678901234567890");
+        set("expiration", 86_400_000L);
+        set("claimsCacheSize", claimsCacheSize);
+        set("meterRegistry", new SimpleMeterRegistry());
+        Method init = JwtService.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(jwtService);
+        
+        user = new User("ann@example.com", "Ann Example", "unused");
+        user.setId("6650f0c2a1b2c3d4e5f60718");
+        user.setAvatar("https://example.com/avatars/ann.png");
+        token = jwtService.generateToken(user);
+    }
+    
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+    
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+    
+    private void set(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtService, value);
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskflow.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of one login's password check at the work factors taskflow.auth.bcrypt-strength may use
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+    
+    @Param({"8", "10", "12"})
+    public int strength;
+    
+    private BCryptPasswordEncoder encoder;
+    private String encodedPassword;
+    
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encodedPassword = encoder.encode("correct horse battery staple");
+    }
+    
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("correct horse battery staple", encodedPassword);
+    }
+}
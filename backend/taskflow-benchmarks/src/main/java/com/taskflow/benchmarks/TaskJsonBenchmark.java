@@ -0,0 +1,114 @@
+package com.taskflow.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.taskflow.backend.dto.CommentPage;
+import com.taskflow.backend.model.Comment;
+import com.taskflow.backend.model.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (de)serialization of tasks and comment pages as the API returns them.
+ * The "small" shape is a typical card; "large" is a heavily used one. The
+ * "blackbird" accessor is what the application uses (see JacksonConfig),
+ * "reflection" is Jackson's default.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskJsonBenchmark {
+    
+    @Param({"small", "large"})
+    public String shape;
+    
+    @Param({"reflection", "blackbird"})
+    public String accessor;
+    
+    private ObjectMapper objectMapper;
+    private Task task;
+    private String taskJson;
+    private CommentPage commentPage;
+    private String commentPageJson;
+    
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        // Same defaults as the application's mapper (JavaTimeModule, ISO dates)
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("blackbird".equals(accessor)) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+        boolean large = "large".equals(shape);
+        task = task(large ? 5 : 2, large ? 30 : 5);
+        taskJson = objectMapper.writeValueAsString(task);
+        commentPage = comments(large ? 100 : 20);
+        commentPageJson = objectMapper.writeValueAsString(commentPage);
+    }
+    
+    @Benchmark
+    public String serializeTask() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(task);
+    }
+    
+    @Benchmark
+    public Task deserializeTask() throws JsonProcessingException {
+        return objectMapper.readValue(taskJson, Task.class);
+    }
+    
+    @Benchmark
+    public String serializeCommentPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(commentPage);
+    }
+    
+    @Benchmark
+    public CommentPage deserializeCommentPage() throws JsonProcessingException {
+        return objectMapper.readValue(commentPageJson, CommentPage.class);
+    }
+    
+    private static Task task(int labelCount, int checklistCount) {
+        Task task = new Task("Prepare quarterly planning deck", "6650f0c2a1b2c3d4e5f60720", "6650f0c2a1b2c3d4e5f60710");
+        task.setId("6650f0c2a1b2c3d4e5f60730");
+        task.setDescription("Collect the numbers from finance, draft the roadmap slides and "
+                + "circulate them to the team leads for review before Friday.");
+        task.setAssigneeId("6650f0c2a1b2c3d4e5f60718");
+        
+        List<Task.TaskLabel> labels = new ArrayList<>();
+        for (int i = 0; i < labelCount; i++) {
+            Task.TaskLabel label = new Task.TaskLabel("label-" + i, "#3f51b5");
+            label.setId("label-id-" + i);
+            labels.add(label);
+        }
+        task.setLabels(labels);
+        
+        List<Task.ChecklistItem> checklist = new ArrayList<>();
+        for (int i = 0; i < checklistCount; i++) {
+            Task.ChecklistItem item = new Task.ChecklistItem("Checklist step number " + i + " with a short description");
+            item.setId("0f8fad5b-d9cb-469f-a165-70867728950" + (i % 10));
+            item.setCompleted(i % 3 == 0);
+            checklist.add(item);
+        }
+        task.setChecklist(checklist);
+        return task;
+    }
+    
+    private static CommentPage comments(int count) {
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Comment comment = new Comment("6650f0c2a1b2c3d4e5f60730", "6650f0c2a1b2c3d4e5f60718",
+                    "Comment " + i + ": looks good to me, but please double-check the totals on slide four.");
+            comment.setId("6650f0c2a1b2c3d4e5f6" + String.format("%04d", i));
+            comment.setBoardId("6650f0c2a1b2c3d4e5f60710");
+            comments.add(comment);
+        }
+        return new CommentPage(comments, "MjAyNi0xMC0xOFQxMjowMDowMHw2NjUwZjBjMmExYjJjM2Q0ZTVmNjAwNjM");
+    }
+}
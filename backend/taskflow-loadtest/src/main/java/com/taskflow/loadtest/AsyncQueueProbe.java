@@ -0,0 +1,85 @@
+package com.taskflow.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Samples the backend's MVC async executor queue (executor.queued tagged
+ * name=mvcAsync) through the metrics endpoint during the measured window.
+ * Streamed task lists wait in that queue once all of the executor's threads
+ * are busy, so any non-zero sample means their latency includes time spent
+ * waiting for a thread rather than reading tasks.
+ */
+final class AsyncQueueProbe {
+
+    private static final String METRIC = "/actuator/metrics/executor.queued?tag=name:mvcAsync";
+    private static final Duration INTERVAL = Duration.ofMillis(50);
+
+    private final HttpClient client;
+    private final BoardFixture fixture;
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile boolean running = true;
+    private volatile long maxQueued;
+    private volatile long samples;
+
+    AsyncQueueProbe(HttpClient client, BoardFixture fixture, LoadTestConfig config) {
+        this.client = client;
+        this.fixture = fixture;
+        this.config = config;
+    }
+
+    Thread start() {
+        Thread sampler = new Thread(this::sample, "loadtest-async-queue");
+        sampler.setDaemon(true);
+        sampler.start();
+        return sampler;
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    private void sample() {
+        LockSupport.parkNanos(config.warmup.toNanos());
+        long end = System.nanoTime() + config.duration.toNanos();
+        while (running && System.nanoTime() < end) {
+            try {
+                HttpResponse<String> response = client.send(fixture.get(METRIC), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    // Metric not exposed by this backend; report it as not sampled
+                    return;
+                }
+                JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+                long queued = (long) measurements.path(0).path("value").asDouble();
+                maxQueued = Math.max(maxQueued, queued);
+                samples++;
+            } catch (IOException e) {
+                // A missed sample; the scenarios report transport failures themselves
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            LockSupport.parkNanos(INTERVAL.toNanos());
+        }
+    }
+
+    long maxQueued() {
+        return maxQueued;
+    }
+
+    long samples() {
+        return samples;
+    }
+
+    boolean passed() {
+        return samples == 0 || maxQueued <= config.maxAsyncQueued;
+    }
+}
@@ -0,0 +1,127 @@
+package com.taskflow.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A board seeded through the public API (user, columns, tasks and checklist
+ * items) plus helpers that build authenticated requests against it.
+ */
+final class BoardFixture {
+    
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    
+    private final String baseUri;
+    private final ObjectMapper objectMapper;
+    private String token;
+    private String boardId;
+    private final List<String> columnIds = new ArrayList<>();
+    private final List<SeededTask> tasks = new ArrayList<>();
+    
+    record SeededTask(String id, List<String> checklistItemIds) {
+    }
+    
+    private BoardFixture(String baseUri, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+    }
+    
+    static BoardFixture seed(HttpClient client, String baseUri, LoadTestConfig config)
+            throws IOException, InterruptedException {
+        BoardFixture fixture = new BoardFixture(baseUri, new ObjectMapper());
+        
+        String email = "loadtest-" + UUID.randomUUID() + "@example.com";
+        JsonNode auth = fixture.send(client, fixture.post("/auth/register",
+                Map.of("email", email, "name", "Load Test", "password", "loadtest-password")));
+        fixture.token = auth.path("token").asText();
+        
+        fixture.boardId = fixture.send(client, fixture.post("/boards",
+                Map.of("title", "Load test board"))).path("id").asText();
+        for (int i = 0; i < config.columns; i++) {
+            fixture.columnIds.add(fixture.send(client, fixture.post("/columns",
+                    Map.of("title", "Column " + i, "boardId", fixture.boardId, "position", i))).path("id").asText());
+        }
+        for (int i = 0; i < config.tasks; i++) {
+            String taskId = fixture.send(client, fixture.post("/tasks", Map.of(
+                    "title", "Seeded task " + i,
+                    "boardId", fixture.boardId,
+                    "columnId", fixture.columnIds.get(i % fixture.columnIds.size())))).path("id").asText();
+            List<String> itemIds = new ArrayList<>();
+            for (int j = 0; j < config.checklistItems; j++) {
+                itemIds.add(fixture.send(client, fixture.post("/tasks/" + taskId + "/checklist",
+                        Map.of("text", "Step " + j))).path("id").asText());
+            }
+            fixture.tasks.add(new SeededTask(taskId, itemIds));
+        }
+        return fixture;
+    }
+    
+    String boardId() {
+        return boardId;
+    }
+    
+    String randomColumnId() {
+        return columnIds.get(ThreadLocalRandom.current().nextInt(columnIds.size()));
+    }
+    
+    SeededTask randomTask() {
+        return tasks.get(ThreadLocalRandom.current().nextInt(tasks.size()));
+    }
+    
+    HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+    
+    HttpRequest post(String path, Object body) {
+        return request(path).POST(json(body)).build();
+    }
+    
+    HttpRequest put(String path, Object body) {
+        return request(path).PUT(json(body)).build();
+    }
+    
+    HttpRequest patch(String path, Object body) {
+        return request(path).method("PATCH", json(body)).build();
+    }
+    
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUri + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+    
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+    
+    private JsonNode send(HttpClient client, HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding failed: " + request.method() + " " + request.uri()
+                    + " returned " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskflow.loadtest;
+
+import com.taskflow.backend.TaskflowBackendApplication;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetSocketAddress;
+
+/**
+ * The real backend application started in this JVM on a random port, backed by
+ * an in-memory server that speaks the MongoDB wire protocol. It needs no
+ * installed database, but its latencies say nothing about MongoDB itself; point
+ * loadtest.target at a deployed instance for that.
+ */
+final class EmbeddedBackend implements AutoCloseable {
+    
+    private final MongoServer mongoServer;
+    private final ConfigurableApplicationContext context;
+    private final String baseUri;
+    
+    private EmbeddedBackend(MongoServer mongoServer, ConfigurableApplicationContext context, String baseUri) {
+        this.mongoServer = mongoServer;
+        this.context = context;
+        this.baseUri = baseUri;
+    }
+    
+    static EmbeddedBackend start() {
+        MongoServer mongoServer = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = mongoServer.bind();
+        // Passed as arguments rather than default properties so they win over application.yml
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskflowBackendApplication.class)
+                .run("--server.port=0",
+                        "--spring.data.mongodb.uri=mongodb://" + address.getHostString() + ":" + address.getPort() + "/taskflow",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.taskflow.backend=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return new EmbeddedBackend(mongoServer, context, "http://localhost:" + port + "/api");
+    }
+    
+    String baseUri() {
+        return baseUri;
+    }
+    
+    @Override
+    public void close() {
+        context.close();
+        mongoServer.shutdownNow();
+    }
+}
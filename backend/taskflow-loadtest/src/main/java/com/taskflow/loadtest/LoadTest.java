@@ -0,0 +1,125 @@
+package com.taskflow.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+
+/**
+ * Drives the REST API with the scenarios in {@link Scenarios} at fixed arrival
+ * rates and checks each scenario's p99 latency and the error rate against
+ * their thresholds, and that streamed task lists never wait for an MVC async
+ * thread. Writes an HdrHistogram percentile distribution per scenario to the
+ * report directory and exits with status 1 when a threshold is exceeded, so it
+ * can gate a CI job.
+ *
+ * <pre>
+ * mvn -f backend/pom.xml -pl taskflow-loadtest -am package -DskipTests
+ * java -Dloadtest.duration=PT2M -jar backend/taskflow-loadtest/target/loadtest.jar
+ * </pre>
+ *
+ * See {@link LoadTestConfig} for the available -Dloadtest.* settings.
+ */
+public class LoadTest {
+    
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig();
+        List<Scenario> scenarios = Scenarios.all(config);
+        
+        EmbeddedBackend embedded = null;
+        String baseUri = config.target;
+        if (baseUri.isBlank()) {
+            embedded = EmbeddedBackend.start();
+            baseUri = embedded.baseUri();
+        }
+        
+        boolean passed;
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            System.out.printf("Seeding %d columns and %d tasks at %s%n", config.columns, config.tasks, baseUri);
+            BoardFixture fixture = BoardFixture.seed(client, baseUri, config);
+            
+            System.out.printf("Running %d scenarios for %s after %s warm-up%n",
+                    scenarios.size(), config.duration, config.warmup);
+            AsyncQueueProbe asyncQueue = new AsyncQueueProbe(client, fixture, config);
+            Thread sampler = asyncQueue.start();
+            List<OpenModelRunner> runners = new ArrayList<>();
+            List<Thread> dispatchers = new ArrayList<>();
+            for (Scenario scenario : scenarios) {
+                OpenModelRunner runner = new OpenModelRunner(scenario, client, fixture, config);
+                runners.add(runner);
+                dispatchers.add(runner.start());
+            }
+            for (Thread dispatcher : dispatchers) {
+                dispatcher.join();
+            }
+            asyncQueue.stop();
+            sampler.join();
+            
+            passed = report(runners, config) & report(asyncQueue, config);
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+    
+    private static boolean report(List<OpenModelRunner> runners, LoadTestConfig config) throws IOException {
+        Files.createDirectories(config.reportDir);
+        boolean passed = true;
+        
+        System.out.printf("%n%-18s %8s %8s %8s %9s %9s %9s %9s %9s  %s%n",
+                "scenario", "rate/s", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms", "p99 SLO", "result");
+        for (OpenModelRunner runner : runners) {
+            Scenario scenario = runner.scenario();
+            Histogram latencies = runner.latencies();
+            double p99Millis = latencies.getValueAtPercentile(99) / NANOS_PER_MILLI;
+            double thresholdMillis = scenario.p99Threshold().toNanos() / NANOS_PER_MILLI;
+            boolean ok = runner.completed() > 0
+                    && p99Millis <= thresholdMillis
+                    && runner.errorRate() <= config.maxErrorRate;
+            passed &= ok;
+            
+            System.out.printf(Locale.ROOT, "%-18s %8.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    scenario.name(), scenario.ratePerSecond(), runner.completed(), runner.failures(),
+                    latencies.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    latencies.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                    p99Millis,
+                    latencies.getMaxValue() / NANOS_PER_MILLI,
+                    thresholdMillis,
+                    ok ? "PASS" : "FAIL");
+            
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(config.reportDir.resolve(scenario.name() + ".hgrm")))) {
+                latencies.outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+        System.out.printf("%nMax error rate %.2f%%; percentile distributions (ms) written to %s%n",
+                config.maxErrorRate * 100, config.reportDir.toAbsolutePath());
+        return passed;
+    }
+    
+    private static boolean report(AsyncQueueProbe asyncQueue, LoadTestConfig config) {
+        if (asyncQueue.samples() == 0) {
+            System.out.println("MVC async executor queue not sampled (executor.queued name=mvcAsync not exposed)");
+            return true;
+        }
+        System.out.printf("MVC async executor queue: max %d over %d samples, limit %d  %s%n",
+                asyncQueue.maxQueued(), asyncQueue.samples(), config.maxAsyncQueued,
+                asyncQueue.passed() ? "PASS" : "FAIL");
+        return asyncQueue.passed();
+    }
+}
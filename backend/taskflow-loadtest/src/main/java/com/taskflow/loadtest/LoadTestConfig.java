@@ -0,0 +1,42 @@
+package com.taskflow.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load test settings, read from system properties (-Dloadtest.*) so a run can
+ * be tuned from the command line without rebuilding.
+ */
+final class LoadTestConfig {
+    
+    // Base URL of a running API, e.g. http://localhost:8080/api. Empty starts an
+    // embedded backend on an in-memory Mongo stand-in.
+    final String target = System.getProperty("loadtest.target", "");
+    final Duration warmup = duration("loadtest.warmup", "PT10S");
+    final Duration duration = duration("loadtest.duration", "PT60S");
+    final int columns = integer("loadtest.columns", 5);
+    final int tasks = integer("loadtest.tasks", 200);
+    final int checklistItems = integer("loadtest.checklist-items", 5);
+    final int maxInFlight = integer("loadtest.max-in-flight", 1000);
+    // Largest MVC async executor queue sampled while streamed task lists run
+    final long maxAsyncQueued = integer("loadtest.mvc-async.max-queued", 0);
+    final double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+    final Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "target/loadtest"));
+    
+    // Requests per second, independent of how fast responses come back
+    double rate(String scenario, double defaultRate) {
+        return Double.parseDouble(System.getProperty("loadtest." + scenario + ".rate", String.valueOf(defaultRate)));
+    }
+    
+    Duration p99(String scenario, String defaultThreshold) {
+        return duration("loadtest." + scenario + ".p99", defaultThreshold);
+    }
+    
+    private static Duration duration(String property, String defaultValue) {
+        return Duration.parse(System.getProperty(property, defaultValue));
+    }
+    
+    private static int integer(String property, int defaultValue) {
+        return Integer.parseInt(System.getProperty(property, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,118 @@
+package com.taskflow.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Issues one scenario's requests on a fixed schedule (an open workload model):
+ * request n is due at start + n / rate whether or not earlier ones have
+ * finished. Latency is measured from the time a request was due rather than
+ * when it was actually sent, so a stalled server shows up as queueing delay
+ * instead of being hidden by coordinated omission.
+ */
+final class OpenModelRunner {
+    
+    private final Scenario scenario;
+    private final HttpClient client;
+    private final BoardFixture fixture;
+    private final LoadTestConfig config;
+    
+    // Nanoseconds, 3 significant digits, grows as needed
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    
+    OpenModelRunner(Scenario scenario, HttpClient client, BoardFixture fixture, LoadTestConfig config) {
+        this.scenario = scenario;
+        this.client = client;
+        this.fixture = fixture;
+        this.config = config;
+    }
+    
+    Thread start() {
+        Thread dispatcher = new Thread(this::dispatch, "loadtest-" + scenario.name());
+        dispatcher.start();
+        return dispatcher;
+    }
+    
+    private void dispatch() {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / scenario.ratePerSecond());
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup.toNanos();
+        long end = measureFrom + config.duration.toNanos();
+        
+        for (long n = 0; ; n++) {
+            long due = start + n * intervalNanos;
+            if (due >= end) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = due >= measureFrom;
+            
+            // Past this point the server is not keeping up; count the request as
+            // failed rather than letting the client queue grow without bound
+            if (inFlight.get() >= config.maxInFlight) {
+                if (measured) {
+                    dropped.incrementAndGet();
+                }
+                continue;
+            }
+            
+            HttpRequest request = scenario.request().apply(fixture);
+            inFlight.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        inFlight.decrementAndGet();
+                        if (!measured) {
+                            return;
+                        }
+                        latencies.recordValue(System.nanoTime() - due);
+                        completed.incrementAndGet();
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    });
+        }
+        
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+    
+    Scenario scenario() {
+        return scenario;
+    }
+    
+    Histogram latencies() {
+        return latencies;
+    }
+    
+    long completed() {
+        return completed.get();
+    }
+    
+    // Error responses, transport failures and requests dropped at max-in-flight
+    long failures() {
+        return errors.get() + dropped.get();
+    }
+    
+    double errorRate() {
+        long attempted = completed.get() + dropped.get();
+        return attempted == 0 ? 0 : (double) failures() / attempted;
+    }
+}
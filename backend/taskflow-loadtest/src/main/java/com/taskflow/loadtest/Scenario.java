@@ -0,0 +1,12 @@
+package com.taskflow.loadtest;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * One user action, issued at a fixed arrival rate. {@code request} builds the
+ * next request against the seeded board.
+ */
+record Scenario(String name, double ratePerSecond, Duration p99Threshold, Function<BoardFixture, HttpRequest> request) {
+}
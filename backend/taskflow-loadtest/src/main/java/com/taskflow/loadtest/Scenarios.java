@@ -0,0 +1,45 @@
+package com.taskflow.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The board interactions the load test drives. Rates and p99 thresholds can be
+ * overridden per scenario, e.g. -Dloadtest.task-move.rate=50
+ * -Dloadtest.task-move.p99=PT0.1S; a rate of 0 disables a scenario.
+ */
+final class Scenarios {
+    
+    private Scenarios() {
+    }
+    
+    static List<Scenario> all(LoadTestConfig config) {
+        return List.of(
+                new Scenario("board-open", config.rate("board-open", 20), config.p99("board-open", "PT0.5S"),
+                        fixture -> fixture.get("/boards/" + fixture.boardId() + "/snapshot")),
+                // Streamed from the MVC async executor, see AsyncQueueProbe
+                new Scenario("board-tasks", config.rate("board-tasks", 10), config.p99("board-tasks", "PT0.5S"),
+                        fixture -> fixture.get("/tasks/board/" + fixture.boardId())),
+                new Scenario("column-tasks", config.rate("column-tasks", 20), config.p99("column-tasks", "PT0.25S"),
+                        fixture -> fixture.get("/tasks/column/" + fixture.randomColumnId())),
+                new Scenario("task-create", config.rate("task-create", 5), config.p99("task-create", "PT0.25S"),
+                        fixture -> fixture.post("/tasks", Map.of(
+                                "title", "Load test task",
+                                "boardId", fixture.boardId(),
+                                "columnId", fixture.randomColumnId()))),
+                new Scenario("task-move", config.rate("task-move", 10), config.p99("task-move", "PT0.25S"),
+                        fixture -> fixture.patch("/tasks/" + fixture.randomTask().id() + "/move", Map.of(
+                                "columnId", fixture.randomColumnId(),
+                                "index", 0))),
+                new Scenario("checklist-toggle", config.rate("checklist-toggle", 10), config.p99("checklist-toggle", "PT0.25S"),
+                        fixture -> {
+                            BoardFixture.SeededTask task = fixture.randomTask();
+                            List<String> items = task.checklistItemIds();
+                            String itemId = items.get(ThreadLocalRandom.current().nextInt(items.size()));
+                            return fixture.put("/tasks/" + task.id() + "/checklist/" + itemId,
+                                    Map.of("completed", ThreadLocalRandom.current().nextBoolean()));
+                        })
+        ).stream().filter(scenario -> scenario.ratePerSecond() > 0).toList();
+    }
+}
@@ -13,18 +13,7 @@ db.createUser({
   ],
 });
 
-// Tworzenie indeksów dla lepszej wydajności
-db.users.createIndex({ email: 1 }, { unique: true });
-db.users.createIndex({ username: 1 }, { unique: true });
-
-db.boards.createIndex({ ownerId: 1 });
-db.boards.createIndex({ name: 1 });
-
-db.columns.createIndex({ boardId: 1 });
-db.columns.createIndex({ position: 1 });
-
-db.tasks.createIndex({ columnId: 1 });
-db.tasks.createIndex({ assigneeId: 1 });
-db.tasks.createIndex({ createdAt: 1 });
+// Indeksy tworzy aplikacja przy starcie na podstawie adnotacji w modelach
+// (@Indexed, @CompoundIndex), patrz MongoIndexInitializer.
 
 print('MongoDB initialization completed successfully!');